@@ -0,0 +1,15 @@
+#!/bin/bash
+# Builds the JMH benchmarks and runs them, writing results to results/<commit>.json.
+# Extra arguments go to JMH, e.g. ./run.sh TaskQueryBenchmark -p taskCount=1000,10000
+set -e
+cd "$(dirname "$0")"
+
+mvn -q -B clean package -DskipTests
+
+COMMIT=$(git rev-parse --short HEAD)
+if ! git diff --quiet HEAD -- ../src; then
+    COMMIT="$COMMIT-dirty"
+fi
+mkdir -p results
+java -jar target/benchmarks.jar -rf json -rff "results/$COMMIT.json" "$@"
+echo "Results written to benchmarks/results/$COMMIT.json"
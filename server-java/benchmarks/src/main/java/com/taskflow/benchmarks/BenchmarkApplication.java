@@ -0,0 +1,110 @@
+package com.taskflow.benchmarks;
+
+import com.taskflow.TaskFlowApplication;
+import com.taskflow.model.Project;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.model.Uuids;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskBulkInserter;
+import com.taskflow.service.ProjectStatsReconciler;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Starts the application against a private H2 database (the local profile, without the web
+ * server) and fills it with a reproducible synthetic dataset.
+ */
+final class BenchmarkApplication {
+    
+    static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final int ASSIGNEES = 50;
+    
+    private static final int INSERT_CHUNK_SIZE = 10_000;
+    private static final long SEED = 42;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    
+    private BenchmarkApplication() {
+    }
+    
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(TaskFlowApplication.class)
+                .profiles("local")
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                    "spring.main.banner-mode=off",
+                    "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                    "logging.level.root=WARN",
+                    "logging.level.com.taskflow=WARN",
+                    // Background pollers would otherwise run queries in the middle of measurements
+                    "taskflow.cache.poll-interval-ms=3600000",
+                    "taskflow.changes.poll-interval-ms=3600000",
+                    "taskflow.versions.poll-interval-ms=3600000",
+                    "taskflow.notifications.outbox.poll-interval-ms=3600000",
+                    "taskflow.stats.poll-interval-ms=3600000",
+                    "taskflow.stats.reconcile-interval-ms=3600000"
+                )
+                .properties(properties)
+                .run();
+    }
+    
+    /**
+     * Creates {@code projectCount} projects and spreads {@code taskCount} synthetic tasks evenly
+     * over them. Returns the project ids in creation order.
+     */
+    static List<UUID> seed(ConfigurableApplicationContext context, int projectCount, int taskCount) {
+        ProjectRepository projectRepository = context.getBean(ProjectRepository.class);
+        TaskBulkInserter bulkInserter = context.getBean(TaskBulkInserter.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        
+        List<UUID> projectIds = new ArrayList<>();
+        for (int i = 0; i < projectCount; i++) {
+            Project project = new Project();
+            project.setName("Project " + i);
+            project.setDescription("Benchmark project " + i);
+            projectIds.add(projectRepository.save(project).getId());
+        }
+        
+        Random random = new Random(SEED);
+        for (int from = 0; from < taskCount; from += INSERT_CHUNK_SIZE) {
+            List<Task> chunk = new ArrayList<>();
+            for (int i = from; i < Math.min(from + INSERT_CHUNK_SIZE, taskCount); i++) {
+                chunk.add(syntheticTask(random, projectIds.get(i % projectCount), i));
+            }
+            transactionTemplate.executeWithoutResult(status -> bulkInserter.insert(chunk));
+        }
+        
+        // Bulk inserts bypass the write events, so the in-memory project stats are reloaded from the table
+        context.getBean(ProjectStatsReconciler.class).reconcile();
+        return projectIds;
+    }
+    
+    /**
+     * A task with uniformly distributed status, priority, assignee and a due date within one
+     * year of {@link #BASE_DATE}.
+     */
+    static Task syntheticTask(Random random, UUID projectId, int i) {
+        Task task = new Task();
+        task.setId(Uuids.timeOrdered());
+        task.setProjectId(projectId);
+        task.setName("Task " + i);
+        task.setDescription("Synthetic task " + i + " for benchmarking");
+        task.setPriority(1 + random.nextInt(5));
+        task.setStatus(STATUSES[random.nextInt(STATUSES.length)].name());
+        task.setAssignee("user" + random.nextInt(ASSIGNEES) + "@example.com");
+        task.setDueDate(BASE_DATE.plusMinutes(random.nextInt(365 * 24 * 60)));
+        task.setCreatedAt(BASE_DATE);
+        task.setUpdatedAt(BASE_DATE);
+        return task;
+    }
+}
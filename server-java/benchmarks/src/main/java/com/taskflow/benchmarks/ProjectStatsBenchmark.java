@@ -0,0 +1,71 @@
+package com.taskflow.benchmarks;
+
+import com.taskflow.dto.ProjectStatsResponse;
+import com.taskflow.service.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProjectService#getProjectStatsBulk} against H2, with the in-memory stats store enabled
+ * and disabled (the latter runs the grouped count query on every call).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectStatsBenchmark {
+    
+    private static final int PROJECTS = 200;
+    private static final int REQUESTED_PROJECTS = 20;
+    
+    @Param({"10000", "100000", "1000000"})
+    public int taskCount;
+    
+    @Param({"true", "false"})
+    public boolean inMemoryStats;
+    
+    private ConfigurableApplicationContext context;
+    private ProjectService projectService;
+    private List<UUID> requestedIds;
+    
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("taskflow.stats.in-memory.enabled=" + inMemoryStats);
+        projectService = context.getBean(ProjectService.class);
+        List<UUID> projectIds = BenchmarkApplication.seed(context, PROJECTS, taskCount);
+        requestedIds = projectIds.subList(0, REQUESTED_PROJECTS);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Map<UUID, ProjectStatsResponse> selectedProjects() {
+        return projectService.getProjectStatsBulk(requestedIds);
+    }
+    
+    @Benchmark
+    public Map<UUID, ProjectStatsResponse> allProjects() {
+        return projectService.getProjectStatsBulk(null);
+    }
+}
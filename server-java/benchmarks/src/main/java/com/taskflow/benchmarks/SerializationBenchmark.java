@@ -0,0 +1,74 @@
+package com.taskflow.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.dto.TasksResponse;
+import com.taskflow.model.Task;
+import com.taskflow.model.Uuids;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of {@link Task} and {@link TasksResponse}, configured as Spring Boot
+ * configures the mapper behind the REST controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    
+    @Param({"100", "1000", "10000"})
+    public int pageSize;
+    
+    private ObjectWriter writer;
+    private Task task;
+    private TasksResponse page;
+    
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writer();
+        
+        Random random = new Random(42);
+        UUID projectId = Uuids.timeOrdered();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            tasks.add(BenchmarkApplication.syntheticTask(random, projectId, i));
+        }
+        task = tasks.get(0);
+        page = new TasksResponse(tasks, 1_000_000L, "eyJzb3J0IjoiZHVlRGF0ZSJ9");
+    }
+    
+    @Benchmark
+    public byte[] task() throws JsonProcessingException {
+        return writer.writeValueAsBytes(task);
+    }
+    
+    @Benchmark
+    public byte[] tasksResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskflow.benchmarks;
+
+import com.taskflow.dto.TasksResponse;
+import com.taskflow.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskService#getTasks} filter and sort combinations against H2. Every filter narrows
+ * the table the way the UI does: one project, one status, or a one-week due-date window.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskQueryBenchmark {
+    
+    private static final int PROJECTS = 20;
+    
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int taskCount;
+    
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private UUID projectId;
+    private LocalDateTime weekStart;
+    private LocalDateTime weekEnd;
+    
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        taskService = context.getBean(TaskService.class);
+        List<UUID> projectIds = BenchmarkApplication.seed(context, PROJECTS, taskCount);
+        projectId = projectIds.get(0);
+        weekStart = BenchmarkApplication.BASE_DATE.plusWeeks(20);
+        weekEnd = weekStart.plusWeeks(1);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public TasksResponse projectSortedByDueDate() {
+        return taskService.getTasks(projectId, null, null, null, null, null, "dueDate", "asc");
+    }
+    
+    @Benchmark
+    public TasksResponse projectAndStatusSortedByPriority() {
+        return taskService.getTasks(projectId, "IN_PROGRESS", null, null, null, null, "priority", "desc");
+    }
+    
+    @Benchmark
+    public TasksResponse statusAndPrioritySortedByName() {
+        return taskService.getTasks(null, "PENDING", 1, null, null, null, "name", "asc");
+    }
+    
+    @Benchmark
+    public TasksResponse dueWeekSortedByDueDate() {
+        return taskService.getTasks(null, null, null, null, weekStart, weekEnd, "dueDate", "asc");
+    }
+    
+    @Benchmark
+    public TasksResponse assigneeUnsorted() {
+        return taskService.getTasks(null, null, null, "user7@example.com", null, null, null, null);
+    }
+}
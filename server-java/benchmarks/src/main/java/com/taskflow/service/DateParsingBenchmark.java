@@ -0,0 +1,42 @@
+package com.taskflow.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskService#parseIsoDate} with both formats clients send: a zoned timestamp from the
+ * browser, and a local date-time, which only parses on the fallback path. Lives in the service
+ * package because the method is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateParsingBenchmark {
+    
+    // Non-final so the JIT cannot constant-fold the inputs
+    private String zoned = "2025-03-14T09:30:00.000Z";
+    private String local = "2025-03-14T09:30:00";
+    
+    @Benchmark
+    public LocalDateTime zonedTimestamp() {
+        return TaskService.parseIsoDate(zoned);
+    }
+    
+    @Benchmark
+    public LocalDateTime localDateTime() {
+        return TaskService.parseIsoDate(local);
+    }
+}
@@ -0,0 +1,30 @@
+#!/bin/bash
+# Builds the load generator and runs it against TaskFlow on the H2 local profile.
+# The application jar is built if missing and started on port 8080 for the run, unless
+# BASE_URL points at an instance that is already running. Arguments go to the generator,
+# e.g. ./run.sh --mix list-tasks=500,project-stats=200 --duration 5m
+set -e
+cd "$(dirname "$0")"
+
+mvn -q -B clean package -DskipTests
+
+APP_PID=
+if [ -z "$BASE_URL" ]; then
+    if [ ! -f ../target/taskflow-api-1.0.0.jar ]; then
+        (cd .. && mvn -q -B clean package -DskipTests)
+    fi
+    BASE_URL=http://localhost:8080
+    java -jar ../target/taskflow-api-1.0.0.jar --spring.profiles.active=local > target/app.log 2>&1 &
+    APP_PID=$!
+    trap 'kill $APP_PID 2>/dev/null' EXIT
+    echo "Waiting for TaskFlow (log: loadgen/target/app.log) ..."
+    until curl -sf "$BASE_URL/api/projects" > /dev/null; do
+        if ! kill -0 $APP_PID 2>/dev/null; then
+            echo "TaskFlow exited during startup, see loadgen/target/app.log"
+            exit 1
+        fi
+        sleep 1
+    done
+fi
+
+java -jar target/loadgen.jar --base-url "$BASE_URL" --report-dir "results/$(date +%Y%m%d-%H%M%S)" "$@"
@@ -0,0 +1,52 @@
+package com.taskflow.loadgen;
+
+import java.time.Duration;
+
+/**
+ * Open-model arrival schedule for one scenario: either a steady {@code rate} per second, or
+ * {@code burstSize} requests released together every {@code burstInterval}. Arrival times are
+ * fixed up front and never depend on how fast the server answers.
+ */
+record Arrivals(Scenario scenario, double rate, int burstSize, Duration burstInterval) {
+    
+    /**
+     * Parses {@code name=rate} (requests per second) or {@code name=size@interval} (bursts),
+     * e.g. {@code list-tasks=200} or {@code update-status=100@10s}.
+     */
+    static Arrivals parse(String spec) {
+        int equals = spec.indexOf('=');
+        if (equals < 0) {
+            throw new IllegalArgumentException("Expected name=rate or name=size@interval: " + spec);
+        }
+        Scenario scenario = Scenario.fromId(spec.substring(0, equals).trim());
+        String value = spec.substring(equals + 1).trim();
+        int at = value.indexOf('@');
+        if (at < 0) {
+            double rate = Double.parseDouble(value);
+            if (rate <= 0) {
+                throw new IllegalArgumentException("Rate must be positive: " + spec);
+            }
+            return new Arrivals(scenario, rate, 1, null);
+        }
+        int burstSize = Integer.parseInt(value.substring(0, at));
+        Duration burstInterval = LoadConfig.parseDuration(value.substring(at + 1));
+        if (burstSize < 1 || burstInterval.isZero() || burstInterval.isNegative()) {
+            throw new IllegalArgumentException("Burst size and interval must be positive: " + spec);
+        }
+        return new Arrivals(scenario, burstSize * 1e9 / burstInterval.toNanos(), burstSize, burstInterval);
+    }
+    
+    /** Intended start of the {@code k}-th request, in {@link System#nanoTime()} terms. */
+    long intendedStart(long startNanos, long k) {
+        if (burstInterval != null) {
+            return startNanos + (k / burstSize) * burstInterval.toNanos();
+        }
+        return startNanos + (long) (k * 1e9 / rate);
+    }
+    
+    String describe() {
+        return burstInterval != null
+            ? burstSize + " every " + burstInterval.toMillis() + "ms"
+            : String.format("%.1f/s", rate);
+    }
+}
@@ -0,0 +1,116 @@
+package com.taskflow.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counters for one scenario, in microseconds.
+ * <p>
+ * Two histograms are kept. {@code latency} is measured from each request's intended start on
+ * the arrival schedule, so time a request spent waiting behind a stalled server (or a stalled
+ * generator) is counted instead of silently omitted. {@code serviceTime} is measured from the
+ * moment the request was actually sent; the gap between the two shows queueing. Requests
+ * record into {@link Recorder}s; the reporter thread swaps out interval histograms and, once
+ * warmup is over, adds them to the run totals.
+ */
+final class EndpointStats {
+    
+    private static final int SIGNIFICANT_DIGITS = 3;
+    
+    record Interval(Histogram latency, Histogram serviceTime, long errors, long notModified, long dropped) {
+    }
+    
+    private final Arrivals arrivals;
+    private final Recorder latency = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder serviceTime = new Recorder(SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile String lastError;
+    
+    // Only touched by the reporter thread
+    private final Histogram totalLatency = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram totalServiceTime = new Histogram(SIGNIFICANT_DIGITS);
+    private long totalErrors;
+    private long totalNotModified;
+    private long totalDropped;
+    private Histogram latencyInterval;
+    private Histogram serviceTimeInterval;
+    
+    EndpointStats(Arrivals arrivals) {
+        this.arrivals = arrivals;
+    }
+    
+    Arrivals getArrivals() {
+        return arrivals;
+    }
+    
+    void recordResponse(long intendedNanos, long sentNanos, long endNanos, int status) {
+        latency.recordValue(micros(endNanos - intendedNanos));
+        serviceTime.recordValue(micros(endNanos - sentNanos));
+        if (status == 304) {
+            notModified.increment();
+        } else if (status >= 400) {
+            errors.increment();
+            lastError = "HTTP " + status;
+        }
+    }
+    
+    // Failed requests still count towards latency, otherwise timeouts would improve the percentiles
+    void recordFailure(long intendedNanos, long sentNanos, long endNanos, Exception error) {
+        latency.recordValue(micros(endNanos - intendedNanos));
+        serviceTime.recordValue(micros(endNanos - sentNanos));
+        errors.increment();
+        lastError = error.getClass().getSimpleName() + (error.getMessage() != null ? ": " + error.getMessage() : "");
+    }
+    
+    void recordDropped() {
+        dropped.increment();
+    }
+    
+    Interval interval(boolean measuring) {
+        latencyInterval = latency.getIntervalHistogram(latencyInterval);
+        serviceTimeInterval = serviceTime.getIntervalHistogram(serviceTimeInterval);
+        Interval interval = new Interval(latencyInterval, serviceTimeInterval,
+            errors.sumThenReset(), notModified.sumThenReset(), dropped.sumThenReset());
+        if (measuring) {
+            totalLatency.add(interval.latency());
+            totalServiceTime.add(interval.serviceTime());
+            totalErrors += interval.errors();
+            totalNotModified += interval.notModified();
+            totalDropped += interval.dropped();
+        }
+        return interval;
+    }
+    
+    Histogram getTotalLatency() {
+        return totalLatency;
+    }
+    
+    Histogram getTotalServiceTime() {
+        return totalServiceTime;
+    }
+    
+    long getTotalErrors() {
+        return totalErrors;
+    }
+    
+    long getTotalNotModified() {
+        return totalNotModified;
+    }
+    
+    long getTotalDropped() {
+        return totalDropped;
+    }
+    
+    String getLastError() {
+        return lastError;
+    }
+    
+    private static long micros(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+}
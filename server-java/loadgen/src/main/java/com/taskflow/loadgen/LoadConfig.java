@@ -0,0 +1,114 @@
+package com.taskflow.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command-line options. The default mix mirrors production: steady task-list and stats polling,
+ * bursts of status changes and a trickle of creates.
+ */
+record LoadConfig(
+        URI baseUrl,
+        List<Arrivals> mix,
+        Duration warmup,
+        Duration duration,
+        Duration reportInterval,
+        Duration timeout,
+        int maxInFlight,
+        int projects,
+        int tasks,
+        Path reportDir
+) {
+    
+    static final String DEFAULT_MIX = "list-tasks=200,project-stats=100,update-status=100@10s,create-task=2";
+    
+    static final String USAGE = """
+        Usage: java -jar loadgen.jar [options]
+          --base-url URL          API to load (default http://localhost:8080)
+          --mix SPECS             comma-separated name=rate or name=size@interval
+                                  (default %s)
+                                  names: list-tasks, project-stats, update-status, create-task
+          --warmup DURATION       load applied before recording starts (default 30s)
+          --duration DURATION     recorded run length (default 2m)
+          --report-interval DUR   progress line interval (default 10s)
+          --timeout DURATION      per-request timeout (default 10s)
+          --max-in-flight N       requests beyond this are dropped and counted (default 10000)
+          --projects N            projects to ensure exist before the run (default 20)
+          --tasks N               tasks to ensure exist before the run (default 10000)
+          --report-dir DIR        where histograms and summary.json go (default loadgen-results)
+        Durations take a ms, s, m or h suffix.
+        """.formatted(DEFAULT_MIX);
+    
+    static LoadConfig parse(String[] args) {
+        URI baseUrl = URI.create("http://localhost:8080");
+        String mix = DEFAULT_MIX;
+        Duration warmup = Duration.ofSeconds(30);
+        Duration duration = Duration.ofMinutes(2);
+        Duration reportInterval = Duration.ofSeconds(10);
+        Duration timeout = Duration.ofSeconds(10);
+        int maxInFlight = 10_000;
+        int projects = 20;
+        int tasks = 10_000;
+        Path reportDir = Path.of("loadgen-results");
+        
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--base-url" -> baseUrl = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                case "--mix" -> mix = value;
+                case "--warmup" -> warmup = parseDuration(value);
+                case "--duration" -> duration = parseDuration(value);
+                case "--report-interval" -> reportInterval = parseDuration(value);
+                case "--timeout" -> timeout = parseDuration(value);
+                case "--max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "--projects" -> projects = Integer.parseInt(value);
+                case "--tasks" -> tasks = Integer.parseInt(value);
+                case "--report-dir" -> reportDir = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+        
+        List<Arrivals> arrivals = new ArrayList<>();
+        for (String spec : mix.split(",")) {
+            if (!spec.isBlank()) {
+                arrivals.add(Arrivals.parse(spec));
+            }
+        }
+        if (arrivals.isEmpty()) {
+            throw new IllegalArgumentException("--mix must name at least one scenario");
+        }
+        if (projects < 1) {
+            throw new IllegalArgumentException("--projects must be at least 1");
+        }
+        if (duration.isZero() || duration.isNegative() || reportInterval.isZero() || reportInterval.isNegative()) {
+            throw new IllegalArgumentException("--duration and --report-interval must be positive");
+        }
+        return new LoadConfig(baseUrl, List.copyOf(arrivals), warmup, duration, reportInterval, timeout,
+            maxInFlight, projects, tasks, reportDir);
+    }
+    
+    static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase();
+        try {
+            if (text.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+            }
+            long amount = Long.parseLong(text.substring(0, text.length() - 1));
+            return switch (text.charAt(text.length() - 1)) {
+                case 's' -> Duration.ofSeconds(amount);
+                case 'm' -> Duration.ofMinutes(amount);
+                case 'h' -> Duration.ofHours(amount);
+                default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+            };
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Unsupported duration: " + value);
+        }
+    }
+}
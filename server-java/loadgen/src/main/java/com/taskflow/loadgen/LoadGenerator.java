@@ -0,0 +1,153 @@
+package com.taskflow.loadgen;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator for a running TaskFlow instance.
+ * <p>
+ * Each scenario has its own dispatcher that releases requests at their scheduled times on a
+ * virtual thread each, whether or not earlier requests have completed, so a slow server sees
+ * the queue build up exactly as it would in production. Latency is recorded from the scheduled
+ * time (see {@link EndpointStats}). Progress is printed every report interval; at the end a
+ * summary table is printed and histograms plus {@code summary.json} are written to the report
+ * directory.
+ */
+public final class LoadGenerator {
+    
+    private final LoadConfig config;
+    private final TaskFlowClient client;
+    private final List<EndpointStats> stats = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    private LoadGenerator(LoadConfig config, TaskFlowClient client) {
+        this.config = config;
+        this.client = client;
+        for (Arrivals arrivals : config.mix()) {
+            stats.add(new EndpointStats(arrivals));
+        }
+    }
+    
+    public static void main(String[] args) throws Exception {
+        LoadConfig config;
+        try {
+            config = LoadConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadConfig.USAGE);
+            System.exit(2);
+            return;
+        }
+        
+        TaskFlowClient client = new TaskFlowClient(config.baseUrl(), config.timeout());
+        System.out.println("Seeding " + config.baseUrl() + " ...");
+        client.seed(config.projects(), config.tasks());
+        System.out.println("Using " + client.getProjectCount() + " project(s) and " + client.getTaskCount() + " task(s)");
+        
+        new LoadGenerator(config, client).run();
+    }
+    
+    private void run() throws IOException, InterruptedException {
+        long intervalNanos = config.reportInterval().toNanos();
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long warmupEnd = start + config.warmup().toNanos();
+        long end = warmupEnd + config.duration().toNanos();
+        
+        System.out.println("Warmup " + config.warmup().toSeconds() + "s (intervals marked *), then recording for " + config.duration().toSeconds() + "s");
+        for (EndpointStats endpoint : stats) {
+            System.out.println("  " + endpoint.getArrivals().scenario().getId() + ": " + endpoint.getArrivals().describe());
+        }
+        
+        List<Thread> dispatchers = new ArrayList<>();
+        for (EndpointStats endpoint : stats) {
+            dispatchers.add(Thread.ofPlatform()
+                .name("dispatch-" + endpoint.getArrivals().scenario().getId())
+                .daemon()
+                .start(() -> dispatch(endpoint, start, end)));
+        }
+        
+        // Interval boundaries fall exactly on the end of warmup, so no recorded interval straddles it
+        long tick = start;
+        while (tick < end) {
+            long next = Math.min(tick + intervalNanos, tick < warmupEnd ? warmupEnd : end);
+            sleepUntil(next);
+            boolean measuring = tick >= warmupEnd;
+            printInterval(next - start, next - tick, measuring);
+            tick = next;
+        }
+        for (Thread dispatcher : dispatchers) {
+            dispatcher.join();
+        }
+        
+        // Requests scheduled before the end still belong to the run; wait for them up to the timeout
+        long drainDeadline = System.nanoTime() + config.timeout().toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        for (EndpointStats endpoint : stats) {
+            endpoint.interval(true);
+        }
+        if (inFlight.get() > 0) {
+            System.out.println(inFlight.get() + " request(s) still in flight at shutdown were not recorded");
+        }
+        
+        LoadReport.print(stats, config.duration(), System.out);
+        LoadReport.write(stats, config, config.reportDir());
+        System.out.println("Histograms and summary.json written to " + config.reportDir().toAbsolutePath());
+    }
+    
+    private void dispatch(EndpointStats endpoint, long start, long end) {
+        Arrivals arrivals = endpoint.getArrivals();
+        for (long k = 0; ; k++) {
+            long intended = arrivals.intendedStart(start, k);
+            if (intended >= end) {
+                return;
+            }
+            // A dispatcher that fell behind releases the overdue requests at once, keeping their scheduled times
+            sleepUntil(intended);
+            if (inFlight.incrementAndGet() > config.maxInFlight()) {
+                inFlight.decrementAndGet();
+                endpoint.recordDropped();
+                continue;
+            }
+            Thread.ofVirtual().start(() -> execute(endpoint, intended));
+        }
+    }
+    
+    private void execute(EndpointStats endpoint, long intended) {
+        long sent = System.nanoTime();
+        try {
+            int status = client.execute(endpoint.getArrivals().scenario());
+            endpoint.recordResponse(intended, sent, System.nanoTime(), status);
+        } catch (Exception e) {
+            endpoint.recordFailure(intended, sent, System.nanoTime(), e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+    
+    private void printInterval(long elapsedNanos, long lengthNanos, boolean measuring) {
+        StringBuilder line = new StringBuilder(String.format("[%5ds]%s", TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), measuring ? " " : "*"));
+        for (EndpointStats endpoint : stats) {
+            EndpointStats.Interval interval = endpoint.interval(measuring);
+            double rate = interval.latency().getTotalCount() * 1e9 / lengthNanos;
+            line.append(String.format("  %s %.0f/s p99 %.1fms err %d",
+                endpoint.getArrivals().scenario().getId(),
+                rate,
+                interval.latency().getValueAtPercentile(99) / 1000.0,
+                interval.errors() + interval.dropped()));
+        }
+        System.out.println(line);
+    }
+    
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
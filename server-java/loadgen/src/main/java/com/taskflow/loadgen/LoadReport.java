@@ -0,0 +1,113 @@
+package com.taskflow.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * End-of-run output: a summary table on the console and, in the report directory, one
+ * {@code .hgrm} percentile distribution per scenario (plot with HdrHistogram's plotter) plus a
+ * {@code summary.json} for comparing runs.
+ */
+final class LoadReport {
+    
+    // Histograms hold microseconds; reports are in milliseconds
+    private static final double MICROS_PER_MILLI = 1000.0;
+    
+    record EndpointSummary(
+            String endpoint,
+            double targetRate,
+            double throughput,
+            long requests,
+            long errors,
+            long notModified,
+            long dropped,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs,
+            double serviceP99Ms,
+            String lastError
+    ) {
+    }
+    
+    record Summary(String baseUrl, String finishedAt, long durationSeconds, String mix, List<EndpointSummary> endpoints) {
+    }
+    
+    private LoadReport() {
+    }
+    
+    static void print(List<EndpointStats> stats, Duration duration, PrintStream out) {
+        out.println();
+        out.println(String.format("%-14s %9s %9s %9s %7s %7s %8s %8s %8s %8s %8s %10s",
+            "endpoint", "target/s", "actual/s", "requests", "errors", "304s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99 ms"));
+        for (EndpointStats endpoint : stats) {
+            EndpointSummary row = summarize(endpoint, duration);
+            out.println(String.format("%-14s %9.1f %9.1f %9d %7d %7d %8.2f %8.2f %8.2f %8.2f %8.2f %10.2f",
+                row.endpoint(), row.targetRate(), row.throughput(), row.requests(), row.errors() + row.dropped(),
+                row.notModified(), row.p50Ms(), row.p90Ms(), row.p99Ms(), row.p999Ms(), row.maxMs(), row.serviceP99Ms()));
+            if (row.lastError() != null) {
+                out.println("  last error: " + row.lastError());
+            }
+        }
+        out.println("Latency is measured from each request's scheduled start; svc p99 from when it was actually sent.");
+    }
+    
+    static void write(List<EndpointStats> stats, LoadConfig config, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (EndpointStats endpoint : stats) {
+            String id = endpoint.getArrivals().scenario().getId();
+            writeDistribution(endpoint.getTotalLatency(), directory.resolve(id + ".hgrm"));
+            writeDistribution(endpoint.getTotalServiceTime(), directory.resolve(id + "-service.hgrm"));
+        }
+        
+        Summary summary = new Summary(
+            config.baseUrl().toString(),
+            Instant.now().toString(),
+            config.duration().toSeconds(),
+            String.join(", ", config.mix().stream().map(arrivals -> arrivals.scenario().getId() + " " + arrivals.describe()).toList()),
+            stats.stream().map(endpoint -> summarize(endpoint, config.duration())).toList()
+        );
+        new ObjectMapper()
+            .writerWithDefaultPrettyPrinter()
+            .writeValue(directory.resolve("summary.json").toFile(), summary);
+    }
+    
+    private static EndpointSummary summarize(EndpointStats endpoint, Duration duration) {
+        Histogram latency = endpoint.getTotalLatency();
+        return new EndpointSummary(
+            endpoint.getArrivals().scenario().getId(),
+            endpoint.getArrivals().rate(),
+            latency.getTotalCount() / (duration.toNanos() / 1e9),
+            latency.getTotalCount(),
+            endpoint.getTotalErrors(),
+            endpoint.getTotalNotModified(),
+            endpoint.getTotalDropped(),
+            millis(latency, 50),
+            millis(latency, 90),
+            millis(latency, 99),
+            millis(latency, 99.9),
+            latency.getMaxValue() / MICROS_PER_MILLI,
+            millis(endpoint.getTotalServiceTime(), 99),
+            endpoint.getLastError()
+        );
+    }
+    
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+    
+    private static void writeDistribution(Histogram histogram, Path file) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.taskflow.loadgen;
+
+/**
+ * Request types in the production traffic mix.
+ */
+enum Scenario {
+    LIST_TASKS("list-tasks"),
+    PROJECT_STATS("project-stats"),
+    UPDATE_STATUS("update-status"),
+    CREATE_TASK("create-task");
+    
+    private final String id;
+    
+    Scenario(String id) {
+        this.id = id;
+    }
+    
+    String getId() {
+        return id;
+    }
+    
+    static Scenario fromId(String id) {
+        for (Scenario scenario : values()) {
+            if (scenario.id.equals(id)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + id);
+    }
+}
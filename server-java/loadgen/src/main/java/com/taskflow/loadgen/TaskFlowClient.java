@@ -0,0 +1,214 @@
+package com.taskflow.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues the scenario requests against the TaskFlow API with the JDK {@link HttpClient}.
+ * <p>
+ * Polling GETs behave like the browser: they send back the last ETag seen for the same URL, so
+ * unchanged data is answered with 304. Status updates and list filters pick a random known
+ * task or project; tasks created during the run join the pool.
+ */
+final class TaskFlowClient {
+    
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+    private static final int ASSIGNEES = 50;
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int ID_PAGE_SIZE = 500;
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    
+    private final URI baseUrl;
+    private final Duration timeout;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<URI, String> etags = new ConcurrentHashMap<>();
+    private final List<String> projectIds = new ArrayList<>();
+    private final List<String> taskIds = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong createdTasks = new AtomicLong();
+    
+    TaskFlowClient(URI baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(timeout)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+    
+    /**
+     * Makes sure at least {@code projects} projects and {@code tasks} tasks exist, then loads
+     * their ids for the run.
+     */
+    void seed(int projects, int tasks) throws IOException, InterruptedException {
+        JsonNode existingProjects = getJson("/api/projects");
+        for (JsonNode project : existingProjects) {
+            projectIds.add(project.get("id").asText());
+        }
+        while (projectIds.size() < projects) {
+            ObjectNode body = objectMapper.createObjectNode()
+                .put("name", "Load project " + (projectIds.size() + 1))
+                .put("description", "Created by the load generator");
+            projectIds.add(postJson("/api/projects", body).get("id").asText());
+        }
+        
+        long existingTasks = getJson("/api/tasks?limit=1&includeTotal=true").path("total").asLong();
+        for (long missing = tasks - existingTasks; missing > 0; missing -= SEED_BATCH_SIZE) {
+            ArrayNode operations = objectMapper.createArrayNode();
+            for (int i = 0; i < Math.min(missing, SEED_BATCH_SIZE); i++) {
+                operations.addObject().put("op", "create").set("create", newTask());
+            }
+            ObjectNode body = objectMapper.createObjectNode();
+            body.set("operations", operations);
+            postJson("/api/tasks/batch", body);
+        }
+        
+        String cursor = null;
+        do {
+            String path = "/api/tasks?limit=" + ID_PAGE_SIZE
+                + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "");
+            JsonNode page = getJson(path);
+            for (JsonNode task : page.path("tasks")) {
+                taskIds.add(task.get("id").asText());
+            }
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        
+        if (taskIds.isEmpty()) {
+            throw new IllegalStateException("No tasks available; status updates need at least one");
+        }
+    }
+    
+    int getProjectCount() {
+        return projectIds.size();
+    }
+    
+    int getTaskCount() {
+        return taskIds.size();
+    }
+    
+    /** Sends one request for {@code scenario} and returns the HTTP status. */
+    int execute(Scenario scenario) throws IOException, InterruptedException {
+        return switch (scenario) {
+            case LIST_TASKS -> conditionalGet(listTasksPath());
+            case PROJECT_STATS -> conditionalGet("/api/projects/stats");
+            case UPDATE_STATUS -> updateStatus();
+            case CREATE_TASK -> createTask();
+        };
+    }
+    
+    // The task list views the UI polls: a project board, a filtered project view and the paged dashboard
+    private String listTasksPath() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String projectId = randomProjectId();
+        return switch (random.nextInt(3)) {
+            case 0 -> "/api/tasks?projectId=" + projectId + "&sortBy=dueDate&sortOrder=asc";
+            case 1 -> "/api/tasks?projectId=" + projectId + "&status=IN_PROGRESS&sortBy=priority&sortOrder=desc";
+            default -> "/api/tasks?status=PENDING&sortBy=dueDate&sortOrder=asc&limit=50";
+        };
+    }
+    
+    private int conditionalGet(String path) throws IOException, InterruptedException {
+        URI uri = uri(path);
+        HttpRequest.Builder request = request(uri).GET();
+        String etag = etags.get(uri);
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        HttpResponse<Void> response = http.send(request.build(), HttpResponse.BodyHandlers.discarding());
+        response.headers().firstValue("ETag").ifPresent(value -> etags.put(uri, value));
+        return response.statusCode();
+    }
+    
+    private int updateStatus() throws IOException, InterruptedException {
+        String taskId = taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+        ObjectNode body = objectMapper.createObjectNode()
+            .put("status", STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)]);
+        HttpRequest request = request(uri("/api/tasks/" + taskId + "/status"))
+            .header("Content-Type", "application/json")
+            .method("PATCH", HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+            .build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+    
+    private int createTask() throws IOException, InterruptedException {
+        HttpRequest request = request(uri("/api/tasks"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(newTask())))
+            .build();
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() == 201) {
+            taskIds.add(objectMapper.readTree(response.body()).get("id").asText());
+        }
+        return response.statusCode();
+    }
+    
+    private ObjectNode newTask() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ZonedDateTime dueDate = ZonedDateTime.now(ZoneOffset.UTC).plusHours(random.nextInt(24 * 90));
+        return objectMapper.createObjectNode()
+            .put("projectId", randomProjectId())
+            .put("name", "Load task " + createdTasks.incrementAndGet())
+            .put("description", "Created by the load generator")
+            .put("priority", 1 + random.nextInt(5))
+            .put("dueDate", DUE_DATE_FORMAT.format(dueDate))
+            .put("assignee", "user" + random.nextInt(ASSIGNEES) + "@example.com")
+            .put("status", "PENDING");
+    }
+    
+    private String randomProjectId() {
+        return projectIds.get(ThreadLocalRandom.current().nextInt(projectIds.size()));
+    }
+    
+    private JsonNode getJson(String path) throws IOException, InterruptedException {
+        return send(request(uri(path)).GET().build());
+    }
+    
+    private JsonNode postJson(String path, JsonNode body) throws IOException, InterruptedException {
+        return send(request(uri(path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+            .build());
+    }
+    
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 300) {
+            throw new IOException(request.method() + " " + request.uri() + " returned " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+    
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+    
+    private HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(timeout)
+            .header("Accept", "application/json");
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskflow.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Read caches for project and single-task lookups. With {@code taskflow.cache.enabled: false}
+ * caching is not enabled at all and the {@code @Cacheable} methods go straight to the database.
+ */
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "taskflow.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+    
+    public static final String PROJECTS = "projects";
+    public static final String PROJECT = "project";
+    public static final String TASK = "task";
+    
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${taskflow.cache.max-size:10000}") long maxSize,
+            @Value("${taskflow.cache.ttl:10m}") Duration ttl
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PROJECTS, PROJECT, TASK);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        // Lookups that find nothing are not cached (see the unless conditions), so random ids cannot fill the cache.
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
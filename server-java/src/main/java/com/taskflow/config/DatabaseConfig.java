@@ -2,6 +2,7 @@ package com.taskflow.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -14,8 +15,14 @@ import java.net.URISyntaxException;
 @Profile("replit")
 public class DatabaseConfig {
     
+    // Same keys as Spring Boot's own Hikari properties, so the pool is sized alike on every profile
     @Bean
-    public DataSource dataSource() {
+    public DataSource dataSource(
+            @Value("${spring.datasource.hikari.pool-name:taskflow}") String poolName,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${spring.datasource.hikari.minimum-idle:-1}") int minimumIdle,
+            @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeoutMs
+    ) {
         String databaseUrl = System.getenv("DATABASE_URL");
         
         if (databaseUrl == null || databaseUrl.isEmpty()) {
@@ -55,7 +62,14 @@ public class DatabaseConfig {
             config.setJdbcUrl(jdbcUrl);
             config.setUsername(username);
             config.setPassword(password);
-            config.setMaximumPoolSize(10);
+            config.setPoolName(poolName);
+            config.setMaximumPoolSize(maximumPoolSize);
+            if (minimumIdle >= 0) {
+                config.setMinimumIdle(minimumIdle);
+            }
+            config.setConnectionTimeout(connectionTimeoutMs);
+            // Lets the driver collapse Hibernate's JDBC insert batches into multi-row INSERTs
+            config.addDataSourceProperty("reWriteBatchedInserts", "true");
             
             return new HikariDataSource(config);
         } catch (URISyntaxException e) {
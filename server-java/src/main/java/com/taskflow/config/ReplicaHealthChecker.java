@@ -0,0 +1,30 @@
+package com.taskflow.config;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Periodically validates read replicas so a failed or lagging one leaves rotation, and comes
+ * back, without waiting for a request to trip over it.
+ */
+@Component
+public class ReplicaHealthChecker {
+    
+    private final ReplicaRoutingDataSource routing;
+    
+    public ReplicaHealthChecker(DataSource dataSource) {
+        this.routing = ReplicaRoutingConfig.routing(dataSource);
+    }
+    
+    @Scheduled(
+        initialDelayString = "${taskflow.datasource.health-check-interval-ms:5000}",
+        fixedDelayString = "${taskflow.datasource.health-check-interval-ms:5000}"
+    )
+    public void check() {
+        if (routing != null) {
+            routing.checkHealth();
+        }
+    }
+}
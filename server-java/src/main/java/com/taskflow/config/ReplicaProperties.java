@@ -0,0 +1,37 @@
+package com.taskflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code taskflow.datasource.*}: read replicas for {@link ReplicaRoutingDataSource}. With no
+ * replicas listed, every statement goes to the primary as before.
+ */
+@Data
+@ConfigurationProperties(prefix = "taskflow.datasource")
+public class ReplicaProperties {
+    
+    private List<Replica> replicas = new ArrayList<>();
+    
+    // A replica further behind the primary than this is taken out of rotation (PostgreSQL only; zero disables)
+    private Duration maxReplicaLag = Duration.ofSeconds(10);
+    
+    // After a write, the same client's reads stay on the primary this long (zero disables)
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        // -1 leaves Hikari's default (the maximum pool size)
+        private int minimumIdle = -1;
+        // Short, so a dead replica fails over to the primary quickly
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+    }
+}
@@ -0,0 +1,109 @@
+package com.taskflow.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Puts {@link ReplicaRoutingDataSource} in front of the application's {@code dataSource} bean
+ * (Spring Boot's pool, or {@link DatabaseConfig}'s on the replit profile) when
+ * {@code taskflow.datasource.replicas} lists at least one replica. The original pool becomes
+ * the primary; each replica gets its own Hikari pool named {@code taskflow-replica-<n>}.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaRoutingConfig {
+    
+    @Bean
+    public static DestructionAwareBeanPostProcessor replicaRoutingPostProcessor(Environment environment) {
+        // Bound directly: post-processors are created before configuration property beans
+        ReplicaProperties properties = Binder.get(environment)
+                .bind("taskflow.datasource", ReplicaProperties.class)
+                .orElseGet(ReplicaProperties::new);
+        
+        return new DestructionAwareBeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary) || properties.getReplicas().isEmpty()) {
+                    return bean;
+                }
+                List<HikariDataSource> pools = new ArrayList<>();
+                for (ReplicaProperties.Replica replica : properties.getReplicas()) {
+                    pools.add(replicaPool(replica, "taskflow-replica-" + (pools.size() + 1)));
+                }
+                log.info("✓ Routing read-only transactions to {} read replica(s)", pools.size());
+                return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, pools, properties.getMaxReplicaLag()));
+            }
+            
+            @Override
+            public boolean requiresDestruction(Object bean) {
+                return routing(bean) != null;
+            }
+            
+            @Override
+            public void postProcessBeforeDestruction(Object bean, String beanName) {
+                ReplicaRoutingDataSource routing = routing(bean);
+                if (routing != null) {
+                    routing.close();
+                }
+            }
+        };
+    }
+    
+    // Replica pools are not beans, so Boot's pool metrics do not find them on their own
+    @Bean
+    public MeterBinder replicaPoolMetrics(DataSource dataSource) {
+        return registry -> {
+            ReplicaRoutingDataSource routing = routing(dataSource);
+            if (routing != null) {
+                routing.getReplicaPools().forEach(pool -> pool.setMetricRegistry(registry));
+            }
+        };
+    }
+    
+    /** The routing data source behind {@code dataSource}, or null when replicas are not configured. */
+    public static ReplicaRoutingDataSource routing(Object dataSource) {
+        if (!(dataSource instanceof DataSource source)) {
+            return null;
+        }
+        try {
+            return source.isWrapperFor(ReplicaRoutingDataSource.class) ? source.unwrap(ReplicaRoutingDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+    
+    private static HikariDataSource replicaPool(ReplicaProperties.Replica replica, String poolName) {
+        if (replica.getUrl() == null || replica.getUrl().isEmpty()) {
+            throw new IllegalStateException("taskflow.datasource.replicas entries need a url");
+        }
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(replica.getUsername());
+        config.setPassword(replica.getPassword());
+        config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        if (replica.getMinimumIdle() >= 0) {
+            config.setMinimumIdle(replica.getMinimumIdle());
+        }
+        config.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        config.setReadOnly(true);
+        // Start even if the replica is down; the health check keeps it out of rotation until it answers
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,248 @@
+package com.taskflow.config;
+
+import com.taskflow.dto.DataSourceRoutingResponse;
+import com.taskflow.dto.ReplicaStatsResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Hands out replica connections inside read-only transactions and primary connections for
+ * everything else.
+ * <p>
+ * The routing decision is made when a connection is first needed, so this must sit behind a
+ * {@code LazyConnectionDataSourceProxy}: Spring marks the transaction read-only only after the
+ * transaction manager has asked for its connection. Replicas are used round-robin while
+ * healthy. A replica that fails to hand out a connection, fails its periodic check, or falls
+ * too far behind is skipped until a later check succeeds; with no healthy replica, reads go to
+ * the primary. A thread can also be pinned to the primary, which read-your-writes uses.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+    
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxReplicaLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder pinnedReads = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools, Duration maxReplicaLag) {
+        this.primary = primary;
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.maxReplicaLag = maxReplicaLag;
+    }
+    
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+    
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+    
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+    
+    /**
+     * Runs {@code work} with this thread's reads on the primary, for reads that must see every
+     * committed write: cache fills, sync tokens and index reloads. Routing is decided at a
+     * transaction's first statement, so this may be entered inside the transaction as long as
+     * nothing has been read yet. An enclosing pin is left in place.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        boolean enclosing = PINNED_TO_PRIMARY.get() != null;
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (!enclosing) {
+                PINNED_TO_PRIMARY.remove();
+            }
+        }
+    }
+    
+    public static void runOnPrimary(Runnable work) {
+        onPrimary(() -> {
+            work.run();
+            return null;
+        });
+    }
+    
+    public List<HikariDataSource> getReplicaPools() {
+        return replicas.stream().map(Replica::pool).toList();
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (routeToReplica()) {
+            Connection connection = replicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+            fallbacks.increment();
+        }
+        return primary.getConnection();
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+    
+    // Lets Boot's pool metrics and health checks reach the primary pool through this wrapper
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? (T) this : primary.unwrap(iface);
+    }
+    
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+    
+    private boolean routeToReplica() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        if (PINNED_TO_PRIMARY.get() != null) {
+            pinnedReads.increment();
+            return false;
+        }
+        return true;
+    }
+    
+    // Tries each healthy replica once, starting from the next in rotation
+    private Connection replicaConnection() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.pool.getConnection();
+                replica.served.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+        return null;
+    }
+    
+    /** Validates every replica and checks its lag; called on a schedule by {@link ReplicaHealthChecker}. */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    replica.markDown("connection failed validation");
+                    continue;
+                }
+                Double lag = replicationLagSeconds(connection);
+                replica.lagSeconds = lag;
+                if (lag != null && !maxReplicaLag.isZero() && lag > maxReplicaLag.toMillis() / 1000.0) {
+                    replica.markDown(String.format("replication lag %.1fs exceeds %ss", lag, maxReplicaLag.toSeconds()));
+                    continue;
+                }
+                replica.markUp();
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+    
+    // Null where lag cannot be measured (not PostgreSQL, or not a standby)
+    private static Double replicationLagSeconds(Connection connection) throws SQLException {
+        if (!"PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+            return null;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                 "SELECT CASE WHEN NOT pg_is_in_recovery() THEN NULL"
+                     // Caught up: the last replayed commit can be old simply because the primary is idle
+                     + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+                     + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END")) {
+            if (rs.next()) {
+                double lag = rs.getDouble(1);
+                return rs.wasNull() ? null : lag;
+            }
+            return null;
+        }
+    }
+    
+    public DataSourceRoutingResponse getStats() {
+        return new DataSourceRoutingResponse(
+            replicas.stream().map(Replica::toResponse).toList(),
+            pinnedReads.sum(),
+            fallbacks.sum()
+        );
+    }
+    
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+        if (primary instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Could not close primary data source", e);
+            }
+        }
+    }
+    
+    private static final class Replica {
+        private final HikariDataSource pool;
+        private final LongAdder served = new LongAdder();
+        private volatile boolean healthy = true;
+        private volatile Double lagSeconds;
+        private volatile String lastError;
+        
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+        
+        private HikariDataSource pool() {
+            return pool;
+        }
+        
+        private void markDown(String reason) {
+            if (healthy) {
+                log.warn("Read replica {} taken out of rotation: {}", pool.getPoolName(), reason);
+            }
+            healthy = false;
+            lastError = reason;
+        }
+        
+        private void markUp() {
+            if (!healthy) {
+                log.info("Read replica {} back in rotation", pool.getPoolName());
+            }
+            healthy = true;
+        }
+        
+        private ReplicaStatsResponse toResponse() {
+            return new ReplicaStatsResponse(pool.getPoolName(), healthy, lagSeconds, served.sum(), lastError);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskflow.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()}
+ * and {@link #stop()}. Registered as Hibernate's statement inspector in {@link MetricsConfig};
+ * statements issued through {@code JdbcTemplate} (bulk inserts, version bumps) are not seen.
+ */
+@Component
+public class StatementCounter implements StatementInspector {
+    
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+    
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+    
+    public void start() {
+        COUNT.set(new int[1]);
+    }
+    
+    // -1 when counting was not started on this thread
+    public int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : -1;
+    }
+}
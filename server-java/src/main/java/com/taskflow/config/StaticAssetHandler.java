@@ -0,0 +1,222 @@
+package com.taskflow.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves the bundled frontend from memory. Everything under {@code classpath:/static/} is read
+ * once at startup, together with a gzip copy of each compressible file (compressed here) and a
+ * Brotli copy where the frontend build left a {@code .br} file next to it (the JDK has no Brotli
+ * encoder). Requests get the smallest encoding their {@code Accept-Encoding} allows, with a
+ * strong ETag per encoding.
+ * <p>
+ * Vite's fingerprinted {@code assets/*-<hash>.*} files are cached for a year as immutable; any
+ * other file, notably {@code index.html}, must be revalidated, which costs a 304. Paths that
+ * match no file get {@code index.html}, so client-side routes survive a reload, except under
+ * {@code api/}.
+ */
+@Slf4j
+@Component
+public class StaticAssetHandler implements HttpRequestHandler {
+    
+    private static final String ROOT = "classpath:/static/";
+    private static final String INDEX = "index.html";
+    private static final Pattern FINGERPRINTED = Pattern.compile("^assets/.+-[A-Za-z0-9_-]{8,}\\.[A-Za-z0-9]+$");
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "no-cache";
+    
+    private final Map<String, Asset> assets;
+    
+    public StaticAssetHandler() throws IOException {
+        this.assets = load();
+    }
+    
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD");
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+        String path = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        path = path == null ? "" : path.startsWith("/") ? path.substring(1) : path;
+        
+        Asset asset = assets.get(path.isEmpty() ? INDEX : path);
+        if (asset == null && !path.startsWith("api/")) {
+            asset = assets.get(INDEX);
+        }
+        if (asset == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        Variant variant = asset.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (asset.hasVariants()) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, asset.cacheControl);
+        // Sets the ETag header, and answers 304 when If-None-Match already has it
+        if (new ServletWebRequest(request, response).checkNotModified(variant.etag)) {
+            return;
+        }
+        
+        response.setContentType(asset.contentType);
+        if (variant.encoding != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, variant.encoding);
+        }
+        response.setContentLength(variant.body.length);
+        if ("GET".equals(request.getMethod())) {
+            response.getOutputStream().write(variant.body);
+        }
+    }
+    
+    private static Map<String, Asset> load() throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        Resource root = resolver.getResource(ROOT);
+        if (!root.exists()) {
+            log.info("No static assets on the classpath; the frontend is not bundled");
+            return Map.of();
+        }
+        String rootUrl = root.getURL().toString();
+        
+        Map<String, byte[]> files = new HashMap<>();
+        for (Resource resource : resolver.getResources(ROOT + "**")) {
+            String url = resource.getURL().toString();
+            if (url.endsWith("/") || !url.startsWith(rootUrl) || !resource.isReadable()) {
+                continue;
+            }
+            try (var in = resource.getInputStream()) {
+                files.put(url.substring(rootUrl.length()), in.readAllBytes());
+            }
+        }
+        
+        Map<String, Asset> assets = new HashMap<>();
+        long identityBytes = 0, gzipBytes = 0, brotliBytes = 0;
+        for (Map.Entry<String, byte[]> file : files.entrySet()) {
+            String path = file.getKey();
+            if (path.endsWith(".br") && files.containsKey(path.substring(0, path.length() - 3))) {
+                continue;
+            }
+            MediaType mediaType = MediaTypeFactory.getMediaType(path).orElse(MediaType.APPLICATION_OCTET_STREAM);
+            byte[] body = file.getValue();
+            byte[] gzip = compressible(mediaType) ? smaller(gzip(body), body) : null;
+            byte[] brotli = smaller(files.get(path + ".br"), body);
+            
+            Asset asset = new Asset(mediaType, FINGERPRINTED.matcher(path).matches() ? IMMUTABLE : REVALIDATE, body, gzip, brotli);
+            assets.put(path, asset);
+            identityBytes += body.length;
+            gzipBytes += (gzip != null ? gzip : body).length;
+            brotliBytes += (brotli != null ? brotli : gzip != null ? gzip : body).length;
+        }
+        log.info("Loaded {} static assets: {} KB, {} KB gzip, {} KB brotli",
+            assets.size(), identityBytes / 1024, gzipBytes / 1024, brotliBytes / 1024);
+        return Map.copyOf(assets);
+    }
+    
+    private static boolean compressible(MediaType mediaType) {
+        String subtype = mediaType.getSubtype();
+        return "text".equals(mediaType.getType())
+                || subtype.contains("javascript")
+                || subtype.contains("json")
+                || subtype.contains("xml")
+                || subtype.equals("wasm");
+    }
+    
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+        // Compressed once at startup, so the slowest level costs nothing per request
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+    
+    // A variant is only worth its Content-Encoding header when it actually saves bytes
+    private static byte[] smaller(byte[] encoded, byte[] body) {
+        return encoded != null && encoded.length < body.length ? encoded : null;
+    }
+    
+    private record Variant(byte[] body, String encoding, String etag) {
+    }
+    
+    private static final class Asset {
+        private final String contentType;
+        private final String cacheControl;
+        private final Variant identity;
+        private final Variant gzip;
+        private final Variant brotli;
+        
+        private Asset(MediaType mediaType, String cacheControl, byte[] body, byte[] gzip, byte[] brotli) {
+            this.contentType = mediaType.toString();
+            this.cacheControl = cacheControl;
+            // Each encoding is a different representation, so each needs its own strong ETag
+            String hash = DigestUtils.md5DigestAsHex(body);
+            this.identity = new Variant(body, null, "\"" + hash + "\"");
+            this.gzip = gzip != null ? new Variant(gzip, "gzip", "\"" + hash + "-gz\"") : null;
+            this.brotli = brotli != null ? new Variant(brotli, "br", "\"" + hash + "-br\"") : null;
+        }
+        
+        private boolean hasVariants() {
+            return gzip != null || brotli != null;
+        }
+        
+        // Brotli, then gzip, then identity, skipping any the client refuses (q=0) or does not list
+        private Variant negotiate(String acceptEncoding) {
+            if (acceptEncoding == null || !hasVariants()) {
+                return identity;
+            }
+            boolean br = false, gz = false;
+            for (String part : acceptEncoding.split(",")) {
+                String[] params = part.trim().split(";");
+                String coding = params[0].trim().toLowerCase();
+                boolean accepted = true;
+                for (int i = 1; i < params.length; i++) {
+                    String param = params[i].trim();
+                    if (param.startsWith("q=")) {
+                        try {
+                            accepted = Double.parseDouble(param.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            accepted = false;
+                        }
+                    }
+                }
+                switch (coding) {
+                    case "br" -> br = accepted;
+                    case "gzip", "x-gzip" -> gz = accepted;
+                    default -> {
+                    }
+                }
+            }
+            if (br && brotli != null) {
+                return brotli;
+            }
+            if (gz && gzip != null) {
+                return gzip;
+            }
+            return identity;
+        }
+    }
+}
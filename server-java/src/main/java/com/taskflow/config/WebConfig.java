@@ -1,37 +1,31 @@
 package com.taskflow.config;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 
-import java.io.IOException;
+import java.util.Map;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
-
+    
+    private final StatementMetricsInterceptor statementMetricsInterceptor;
+    private final ReadYourWritesInterceptor readYourWritesInterceptor;
+    
     @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/**")
-                .addResourceLocations("classpath:/static/")
-                .resourceChain(true)
-                .addResolver(new PathResourceResolver() {
-                    @Override
-                    protected Resource getResource(String resourcePath, Resource location) throws IOException {
-                        Resource requestedResource = location.createRelative(resourcePath);
-                        
-                        if (requestedResource.exists() && requestedResource.isReadable()) {
-                            return requestedResource;
-                        }
-                        
-                        if (resourcePath.startsWith("api/")) {
-                            return null;
-                        }
-                        
-                        return new ClassPathResource("/static/index.html");
-                    }
-                });
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(statementMetricsInterceptor).addPathPatterns("/api/**");
+        registry.addInterceptor(readYourWritesInterceptor).addPathPatterns("/api/**");
+    }
+    
+    // Last in line, after the controllers; Boot's own static mapping is off (spring.web.resources.add-mappings)
+    @Bean
+    public SimpleUrlHandlerMapping staticAssetHandlerMapping(StaticAssetHandler staticAssetHandler) {
+        return new SimpleUrlHandlerMapping(Map.of("/**", staticAssetHandler), Ordered.LOWEST_PRECEDENCE - 1);
     }
 }
@@ -0,0 +1,67 @@
+package com.taskflow.controller;
+
+import com.taskflow.service.VersionTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GETs against {@link VersionTracker} ETags. An If-None-Match that already names the
+ * latest version known here gets a 304 before anything is read. Otherwise the body is read
+ * through {@link VersionTracker#read}, which may use a replica, and its ETag carries the version
+ * that body is known to include, so a lagging replica yields an older ETag rather than a stale
+ * body under the new one.
+ */
+@Component
+@RequiredArgsConstructor
+class ConditionalGet {
+    
+    private final VersionTracker versionTracker;
+    
+    /**
+     * {@code projectIds} select the version as in {@link VersionTracker#getVersion(Collection)};
+     * {@code parts} are the request parameters that select the representation. Null when a 304
+     * was sent.
+     */
+    <T> ResponseEntity<T> respond(WebRequest request, String prefix, Collection<UUID> projectIds,
+                                  Supplier<ResponseEntity<T>> read, Object... parts) {
+        String latest = versionTracker.etag(prefix, versionTracker.getVersion(projectIds), parts);
+        if (latest != null && isCurrent(request, latest)) {
+            // Also puts the ETag on the 304
+            request.checkNotModified(latest);
+            return null;
+        }
+        VersionTracker.Versioned<ResponseEntity<T>> result = versionTracker.read(projectIds, read);
+        String etag = versionTracker.etag(prefix, result.version(), parts);
+        // checkNotModified sets the ETag header, and only the first call does, so it is left until the body's version is known
+        if (etag != null && result.body().getStatusCode().is2xxSuccessful() && request.checkNotModified(etag)) {
+            return null;
+        }
+        return result.body();
+    }
+    
+    private static boolean isCurrent(WebRequest request, String etag) {
+        String[] values = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (values == null) {
+            return false;
+        }
+        for (String value : values) {
+            for (String candidate : value.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag) || tag.equals("*")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,58 @@
+package com.taskflow.controller;
+
+import com.taskflow.config.ReplicaRoutingDataSource;
+import com.taskflow.dto.CacheStatsResponse;
+import com.taskflow.dto.DataSourceRoutingResponse;
+import com.taskflow.dto.FilterIndexStatsResponse;
+import com.taskflow.dto.NotificationStatsResponse;
+import com.taskflow.service.CacheService;
+import com.taskflow.service.NotificationService;
+import com.taskflow.service.TaskFilterIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/diagnostics")
+@RequiredArgsConstructor
+public class DiagnosticsController {
+    
+    private final NotificationService notificationService;
+    private final TaskFilterIndex taskFilterIndex;
+    // Absent when taskflow.cache.enabled is false
+    private final ObjectProvider<CacheService> cacheService;
+    private final DataSource dataSource;
+    
+    @GetMapping("/notifications")
+    public ResponseEntity<NotificationStatsResponse> getNotificationStats() {
+        return ResponseEntity.ok(notificationService.getStats());
+    }
+    
+    @GetMapping("/filter-index")
+    public ResponseEntity<FilterIndexStatsResponse> getFilterIndexStats() {
+        return ResponseEntity.ok(taskFilterIndex.getStats());
+    }
+    
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, CacheStatsResponse>> getCacheStats() {
+        CacheService caches = cacheService.getIfAvailable();
+        return ResponseEntity.ok(caches != null ? caches.getStats() : Map.of());
+    }
+    
+    @GetMapping("/datasource")
+    public ResponseEntity<DataSourceRoutingResponse> getDataSourceRouting() throws SQLException {
+        // Without configured replicas every connection comes from the primary
+        if (!dataSource.isWrapperFor(ReplicaRoutingDataSource.class)) {
+            return ResponseEntity.ok(new DataSourceRoutingResponse(List.of(), 0, 0));
+        }
+        return ResponseEntity.ok(dataSource.unwrap(ReplicaRoutingDataSource.class).getStats());
+    }
+}
@@ -3,15 +3,20 @@ package com.taskflow.controller;
 import com.taskflow.dto.CreateProjectRequest;
 import com.taskflow.dto.ProjectStatsResponse;
 import com.taskflow.model.Project;
+import com.taskflow.repository.ProjectField;
 import com.taskflow.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -19,24 +24,45 @@ import java.util.Map;
 public class ProjectController {
     
     private final ProjectService projectService;
+    private final ConditionalGet conditionalGet;
     
     @GetMapping
-    public ResponseEntity<List<Project>> getAllProjects() {
-        return ResponseEntity.ok(projectService.getAllProjects());
+    public ResponseEntity<List<?>> getAllProjects(
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest
+    ) {
+        Set<ProjectField> selected;
+        try {
+            selected = ProjectField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        // ETags come from in-memory versions, so a matching If-None-Match returns 304 before any query runs.
+        return conditionalGet.respond(webRequest, "p", null,
+            () -> ResponseEntity.ok(selected == null ? projectService.getAllProjects() : projectService.getAllProjects(selected)),
+            selected == null ? new Object[0] : new Object[] { String.valueOf(selected) });
     }
     
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, ProjectStatsResponse>> getProjectStats(
-            @RequestParam(required = false) List<String> projectIds
+    public ResponseEntity<Map<UUID, ProjectStatsResponse>> getProjectStats(
+            @RequestParam(required = false) List<UUID> projectIds,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(projectService.getProjectStatsBulk(projectIds));
+        // Versions only grow, so the sum over a fixed set of projects changes whenever one of them does.
+        TreeSet<UUID> ids = projectIds == null || projectIds.isEmpty() ? null : new TreeSet<>(projectIds);
+        return conditionalGet.respond(webRequest, "s", ids,
+            () -> ResponseEntity.ok(projectService.getProjectStatsBulk(projectIds)),
+            ids == null ? new Object[0] : ids.toArray());
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Project> getProjectById(@PathVariable String id) {
-        return projectService.getProjectById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Project> getProjectById(@PathVariable UUID id, WebRequest webRequest) {
+        return conditionalGet.respond(webRequest, "p", List.of(id),
+            () -> projectService.getProjectById(id)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build()),
+            id);
     }
     
     @PostMapping
@@ -47,7 +73,7 @@ public class ProjectController {
     
     @PatchMapping("/{id}")
     public ResponseEntity<Project> updateProject(
-            @PathVariable String id,
+            @PathVariable UUID id,
             @RequestBody CreateProjectRequest request
     ) {
         return projectService.updateProject(id, request)
@@ -56,7 +82,7 @@ public class ProjectController {
     }
     
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteProject(@PathVariable String id) {
+    public ResponseEntity<Void> deleteProject(@PathVariable UUID id) {
         boolean deleted = projectService.deleteProject(id);
         return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
     }
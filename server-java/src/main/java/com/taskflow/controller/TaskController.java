@@ -1,19 +1,48 @@
 package com.taskflow.controller;
 
+import com.taskflow.dto.BatchTaskRequest;
+import com.taskflow.dto.BatchTaskResponse;
+import com.taskflow.dto.CalendarResponse;
 import com.taskflow.dto.CreateTaskRequest;
+import com.taskflow.dto.ImportJobResponse;
+import com.taskflow.dto.StatusConflictResponse;
+import com.taskflow.dto.TaskChangesResponse;
 import com.taskflow.dto.UpdateTaskRequest;
 import com.taskflow.dto.TasksResponse;
 import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.TaskField;
+import com.taskflow.repository.TaskFilter;
+import com.taskflow.repository.TaskSortField;
+import com.taskflow.service.TaskBatchService;
+import com.taskflow.service.TaskCalendarService;
+import com.taskflow.service.TaskExportService;
+import com.taskflow.service.TaskImportService;
 import com.taskflow.service.TaskService;
+import com.taskflow.service.TaskStatusConflictException;
+import com.taskflow.service.TaskSyncService;
+import com.taskflow.service.UnknownProjectException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -21,25 +50,138 @@ import java.util.Map;
 public class TaskController {
     
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskBatchService taskBatchService;
+    private final TaskImportService taskImportService;
+    private final TaskSyncService taskSyncService;
+    private final TaskCalendarService taskCalendarService;
+    private final ConditionalGet conditionalGet;
     
     @GetMapping
     public ResponseEntity<TasksResponse> getTasks(
-            @RequestParam(required = false) String projectId,
+            @RequestParam(required = false) UUID projectId,
+            // status=PENDING,IN_PROGRESS matches either; the dimensions are still ANDed
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) List<Integer> priority,
+            @RequestParam(required = false) String assignee,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortOrder,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest
+    ) {
+        Set<TaskField> selected;
+        try {
+            selected = TaskField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return conditionalGet.respond(webRequest, "t", projectId != null ? List.of(projectId) : null, () -> {
+            if (limit != null || cursor != null) {
+                try {
+                    return ResponseEntity.ok(taskService.getTaskPage(
+                        projectId, status, priority, assignee, startDate, endDate, sortBy, sortOrder, limit, cursor, includeTotal, selected
+                    ));
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.badRequest().build();
+                }
+            }
+            return ResponseEntity.ok(taskService.getTasks(
+                projectId, status, priority, assignee, startDate, endDate, sortBy, sortOrder, selected
+            ));
+        },
+            projectId, status, priority, assignee, startDate, endDate, sortBy, sortOrder, limit, cursor, includeTotal,
+            // Enum hash codes differ between runs; the names do not.
+            String.valueOf(selected));
+    }
+    
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(required = false) UUID projectId,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Integer priority,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortOrder
+            @RequestParam(required = false) String sortOrder,
+            @RequestParam(defaultValue = "ndjson") String format
     ) {
-        TasksResponse response = taskService.getTasks(
-            projectId, status, priority, startDate, endDate, sortBy, sortOrder
-        );
-        return ResponseEntity.ok(response);
+        TaskExportService.Format exportFormat;
+        TaskSortField sortField;
+        try {
+            exportFormat = TaskExportService.Format.fromParam(format);
+            sortField = sortBy != null ? TaskSortField.fromParam(sortBy) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        TaskFilter filter = new TaskFilter(projectId, status, priority, startDate, endDate);
+        boolean descending = "desc".equalsIgnoreCase(sortOrder);
+        StreamingResponseBody body = out -> taskExportService.export(filter, sortField, descending, exportFormat, out);
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+    
+    @GetMapping("/calendar")
+    public ResponseEntity<CalendarResponse> getCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer priority,
+            @RequestParam(required = false) Integer tasksPerBucket,
+            WebRequest webRequest
+    ) {
+        return conditionalGet.respond(webRequest, "c", projectId != null ? List.of(projectId) : null, () -> {
+            try {
+                return ResponseEntity.ok(taskCalendarService.getCalendar(
+                    from, to, granularity, projectId, status, priority, tasksPerBucket
+                ));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }, from, to, granularity, projectId, status, priority, tasksPerBucket);
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<TasksResponse> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer priority,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            return ResponseEntity.ok(taskService.searchTasks(q, projectId, status, priority, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> getTaskChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            return ResponseEntity.ok(taskSyncService.getChanges(projectId, since, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable String id) {
+    public ResponseEntity<Task> getTaskById(@PathVariable UUID id) {
         return taskService.getTaskById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -47,38 +189,100 @@ public class TaskController {
     
     @PostMapping
     public ResponseEntity<Task> createTask(@Valid @RequestBody CreateTaskRequest request) {
-        Task task = taskService.createTask(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(task);
+        try {
+            Task task = taskService.createTask(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(task);
+        } catch (UnknownProjectException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
-    @PatchMapping("/{id}")
-    public ResponseEntity<Task> updateTask(
-            @PathVariable String id,
-            @RequestBody UpdateTaskRequest request
-    ) {
-        return taskService.updateTask(id, request)
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTaskResponse> batchTasks(@Valid @RequestBody BatchTaskRequest request) {
+        return ResponseEntity.ok(taskBatchService.execute(request.getOperations()));
+    }
+    
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> importTasks(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format
+    ) throws IOException {
+        ImportJobResponse job;
+        try {
+            job = taskImportService.startImport(file, format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/tasks/import/" + job.getId()))
+                .body(job);
+    }
+    
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable String jobId) {
+        return taskImportService.getJob(jobId)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    // "version" in the body is optional and, when sent, must match the task's
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> updateTask(
+            @PathVariable UUID id,
+            @Valid @RequestBody UpdateTaskRequest request
+    ) {
+        try {
+            return taskService.updateTask(id, request)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (TaskStatusConflictException e) {
+            return conflict(e);
+        } catch (OptimisticLockingFailureException e) {
+            // Another request changed the task between this one's read and its write
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (UnknownProjectException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // Body: {"status": "...", "version": n}; version is optional and, when sent, must match the task's
     @PatchMapping("/{id}/status")
-    public ResponseEntity<Task> updateTaskStatus(
-            @PathVariable String id,
+    public ResponseEntity<?> updateTaskStatus(
+            @PathVariable UUID id,
             @RequestBody Map<String, String> body
     ) {
         String status = body.get("status");
-        if (status == null) {
+        if (!TaskStatus.isValid(status)) {
+            return ResponseEntity.badRequest().build();
+        }
+        Long expectedVersion;
+        try {
+            expectedVersion = body.get("version") != null ? Long.valueOf(body.get("version")) : null;
+        } catch (NumberFormatException e) {
             return ResponseEntity.badRequest().build();
         }
         
-        return taskService.updateTaskStatus(id, status)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            return taskService.updateTaskStatus(id, status, expectedVersion)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (TaskStatusConflictException e) {
+            return conflict(e);
+        }
     }
     
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTask(@PathVariable String id) {
+    public ResponseEntity<Void> deleteTask(@PathVariable UUID id) {
         boolean deleted = taskService.deleteTask(id);
         return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
     }
+    
+    private static ResponseEntity<StatusConflictResponse> conflict(TaskStatusConflictException e) {
+        Task current = e.getCurrent();
+        List<String> allowed = TaskStatus.valueOf(current.getStatus()).allowedTransitions().stream()
+                .map(TaskStatus::name)
+                .toList();
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new StatusConflictResponse(e.getReason().name(), current, allowed));
+    }
 }
@@ -0,0 +1,17 @@
+package com.taskflow.dto;
+
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class BatchTaskOperation {
+    // "create", "update" or "delete"
+    private String op;
+    
+    // Target task for update and delete
+    private UUID id;
+    
+    private CreateTaskRequest create;
+    private UpdateTaskRequest update;
+}
@@ -0,0 +1,14 @@
+package com.taskflow.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchTaskRequest {
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 10000, message = "A batch may contain at most 10000 operations")
+    private List<BatchTaskOperation> operations;
+}
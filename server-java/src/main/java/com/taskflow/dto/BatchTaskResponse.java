@@ -0,0 +1,14 @@
+package com.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BatchTaskResponse {
+    private int succeeded;
+    private int failed;
+    private List<BatchTaskResult> results;
+}
@@ -0,0 +1,20 @@
+package com.taskflow.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchTaskResult {
+    private int index;
+    private String op;
+    private UUID id;
+    private int status;
+    private String error;
+}
@@ -0,0 +1,21 @@
+package com.taskflow.dto;
+
+import com.taskflow.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class CalendarBucket {
+    // First day of the bucket: the day itself, or the Monday of the week
+    private LocalDate start;
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<Integer, Long> byPriority;
+    // The earliest-due tasks in the bucket, up to the requested tasksPerBucket
+    private List<Task> tasks;
+}
@@ -0,0 +1,17 @@
+package com.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class CalendarResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private String granularity;
+    // Only buckets with at least one task, in date order
+    private List<CalendarBucket> buckets;
+}
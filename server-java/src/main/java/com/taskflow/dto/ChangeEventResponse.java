@@ -0,0 +1,37 @@
+package com.taskflow.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.taskflow.model.ChangeLogEntry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class ChangeEventResponse {
+    private long sequence;
+    private String entityType;
+    private String changeType;
+    private UUID id;
+    private UUID projectId;
+    private UUID previousProjectId;
+    private LocalDateTime recordedAt;
+    // The task or project as committed; absent for deletes and bulk changes
+    @JsonRawValue
+    private String data;
+    
+    public static ChangeEventResponse of(ChangeLogEntry entry) {
+        return new ChangeEventResponse(
+            entry.getId(),
+            entry.getEntityType(),
+            entry.getChangeType(),
+            entry.getEntityId(),
+            entry.getProjectId(),
+            entry.getPreviousProjectId(),
+            entry.getRecordedAt(),
+            entry.getPayload()
+        );
+    }
+}
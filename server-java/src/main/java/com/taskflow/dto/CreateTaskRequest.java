@@ -4,10 +4,12 @@ import jakarta.validation.constraints.*;
 import lombok.Data;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
+import java.util.UUID;
+
 @Data
 public class CreateTaskRequest {
-    @NotBlank(message = "Project ID is required")
-    private String projectId;
+    @NotNull(message = "Project ID is required")
+    private UUID projectId;
     
     @NotBlank(message = "Name is required")
     private String name;
@@ -0,0 +1,16 @@
+package com.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class DataSourceRoutingResponse {
+    private List<ReplicaStatsResponse> replicas;
+    // Read-only transactions kept on the primary: read-your-writes, or reads that must see every commit
+    private long pinnedReads;
+    // Read-only transactions sent to the primary because no replica could serve them
+    private long fallbacks;
+}
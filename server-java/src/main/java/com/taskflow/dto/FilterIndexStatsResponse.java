@@ -0,0 +1,19 @@
+package com.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class FilterIndexStatsResponse {
+    private boolean enabled;
+    private boolean ready;
+    private boolean building;
+    private long tasks;
+    private long bitmapBytes;
+    private long arrayBytes;
+    private long hits;
+    private long fallbacks;
+    private double hitRate;
+    private long lastBuildMs;
+}
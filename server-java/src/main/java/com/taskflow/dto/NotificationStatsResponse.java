@@ -0,0 +1,23 @@
+package com.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class NotificationStatsResponse {
+    private String overflowPolicy;
+    private int queueDepth;
+    private int queueCapacity;
+    private long spillBacklog;
+    private long enqueued;
+    private long dropped;
+    private long spilled;
+    private long delivered;
+    private long failed;
+    private long batches;
+    private double averageBatchSize;
+    private int lastBatchSize;
+    private double averageLatencyMs;
+    private long maxLatencyMs;
+}
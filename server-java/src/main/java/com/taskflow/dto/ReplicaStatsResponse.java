@@ -0,0 +1,15 @@
+package com.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ReplicaStatsResponse {
+    private String name;
+    private boolean healthy;
+    // Null unless the replica is a PostgreSQL standby
+    private Double lagSeconds;
+    private long connectionsServed;
+    private String lastError;
+}
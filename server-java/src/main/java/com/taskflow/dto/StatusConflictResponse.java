@@ -0,0 +1,17 @@
+package com.taskflow.dto;
+
+import com.taskflow.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class StatusConflictResponse {
+    // TRANSITION_NOT_ALLOWED or VERSION_MISMATCH
+    private String reason;
+    private Task current;
+    // Statuses the task can move to from its current status
+    private List<String> allowedTransitions;
+}
@@ -0,0 +1,25 @@
+package com.taskflow.dto;
+
+import com.taskflow.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of a delta sync. Clients apply {@code deleted} and {@code deletedProjects} before
+ * {@code changed}, and when {@code reset} is set they discard their copy and rebuild from the
+ * pages that follow. {@code token} is passed back as {@code since}, for the next page while
+ * {@code hasMore} is set and for the next sync afterwards.
+ */
+@Data
+@AllArgsConstructor
+public class TaskChangesResponse {
+    private List<Task> changed;
+    private List<UUID> deleted;
+    private List<UUID> deletedProjects;
+    private boolean reset;
+    private boolean hasMore;
+    private String token;
+}
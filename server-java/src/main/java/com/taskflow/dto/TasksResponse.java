@@ -1,6 +1,6 @@
 package com.taskflow.dto;
 
-import com.taskflow.model.Task;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import lombok.AllArgsConstructor;
 
@@ -8,7 +8,14 @@ import java.util.List;
 
 @Data
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class TasksResponse {
-    private List<Task> tasks;
-    private long total;
+    // Task entities, or TaskView rows when the request named its fields
+    private List<?> tasks;
+    private Long total;
+    private String nextCursor;
+    
+    public TasksResponse(List<?> tasks, long total) {
+        this(tasks, total, null);
+    }
 }
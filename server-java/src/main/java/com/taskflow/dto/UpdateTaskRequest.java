@@ -1,14 +1,24 @@
 package com.taskflow.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
 import lombok.Data;
 
+import java.util.UUID;
+
 @Data
 public class UpdateTaskRequest {
-    private String projectId;
+    private UUID projectId;
     private String name;
     private String description;
+    @Min(value = 1, message = "Priority must be between 1 and 5")
+    @Max(value = 5, message = "Priority must be between 1 and 5")
     private Integer priority;
     private String dueDate;
     private String assignee;
+    @Pattern(regexp = "PENDING|IN_PROGRESS|COMPLETED", message = "Status must be PENDING, IN_PROGRESS, or COMPLETED")
     private String status;
+    // Optional; when sent, the update only applies if the task still has this version
+    private Long version;
 }
@@ -0,0 +1,7 @@
+package com.taskflow.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
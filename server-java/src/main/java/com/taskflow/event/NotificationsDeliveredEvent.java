@@ -0,0 +1,16 @@
+package com.taskflow.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published by the notification dispatcher after a digest was sent (or recognised as a
+ * duplicate), carrying the dedup keys of the notifications it covered.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationsDeliveredEvent {
+    private final List<String> dedupKeys;
+}
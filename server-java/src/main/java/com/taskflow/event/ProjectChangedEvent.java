@@ -0,0 +1,27 @@
+package com.taskflow.event;
+
+import com.taskflow.model.Project;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ProjectChangedEvent {
+    private final ChangeType type;
+    private final UUID projectId;
+    private final Project project;
+    
+    public static ProjectChangedEvent created(Project project) {
+        return new ProjectChangedEvent(ChangeType.CREATED, project.getId(), project);
+    }
+    
+    public static ProjectChangedEvent updated(Project project) {
+        return new ProjectChangedEvent(ChangeType.UPDATED, project.getId(), project);
+    }
+    
+    public static ProjectChangedEvent deleted(UUID projectId) {
+        return new ProjectChangedEvent(ChangeType.DELETED, projectId, null);
+    }
+}
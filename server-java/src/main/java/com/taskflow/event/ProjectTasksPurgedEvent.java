@@ -0,0 +1,19 @@
+package com.taskflow.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published for each chunk of tasks removed after their project was deleted. These deletes do
+ * not publish per-task events or change log rows; sync clients drop the project's tasks when
+ * they see the project's deletion.
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectTasksPurgedEvent {
+    private final UUID projectId;
+    private final List<UUID> taskIds;
+}
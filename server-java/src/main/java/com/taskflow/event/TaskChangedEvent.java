@@ -0,0 +1,33 @@
+package com.taskflow.event;
+
+import com.taskflow.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Published inside the writing transaction; listeners that must only see committed
+ * state use {@code @TransactionalEventListener}. {@code task} is null for deletes.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskChangedEvent {
+    private final ChangeType type;
+    private final UUID taskId;
+    private final UUID previousProjectId;
+    private final String previousStatus;
+    private final Task task;
+    
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(ChangeType.CREATED, task.getId(), null, null, task);
+    }
+    
+    public static TaskChangedEvent updated(UUID previousProjectId, String previousStatus, Task task) {
+        return new TaskChangedEvent(ChangeType.UPDATED, task.getId(), previousProjectId, previousStatus, task);
+    }
+    
+    public static TaskChangedEvent deleted(UUID taskId, UUID projectId, String status) {
+        return new TaskChangedEvent(ChangeType.DELETED, taskId, projectId, status, null);
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskflow.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published for set-based writes (imports, cascading deletes) that bypass per-task events.
+ * Listeners should reload whatever they hold for the listed projects.
+ */
+@Getter
+@AllArgsConstructor
+public class TasksBulkChangedEvent {
+    private final Set<UUID> projectIds;
+}
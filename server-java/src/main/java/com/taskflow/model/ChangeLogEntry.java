@@ -0,0 +1,57 @@
+package com.taskflow.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.hibernate.Length;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One committed change to a task or project, in sequence order. Rows are written just before
+ * commit (see ChangeLogWriter) and pruned after {@code taskflow.changes.retention}.
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+    @Index(name = "idx_change_log_recorded_at", columnList = "recorded_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogEntry {
+    
+    public static final String TASK = "TASK";
+    public static final String PROJECT = "PROJECT";
+    
+    // allocationSize 1: ids must follow the order in which nodes reach commit, so no node may hold a block of ids
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "change_log_seq")
+    @SequenceGenerator(name = "change_log_seq", sequenceName = "change_log_seq", allocationSize = 1)
+    @Column(name = "id")
+    private Long id;
+    
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private String entityType;
+    
+    // CREATED, UPDATED, DELETED, or BULK for set-based writes that are not logged row by row
+    @Column(name = "change_type", nullable = false, length = 16)
+    private String changeType;
+    
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+    
+    @Column(name = "project_id")
+    private UUID projectId;
+    
+    @Column(name = "previous_project_id")
+    private UUID previousProjectId;
+    
+    // JSON of the task or project after the change, unbounded like the descriptions in it; null for deletes and bulk changes
+    @Column(name = "payload", length = Length.LONG32)
+    private String payload;
+    
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
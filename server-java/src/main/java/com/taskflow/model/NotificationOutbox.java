@@ -0,0 +1,60 @@
+package com.taskflow.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.hibernate.Length;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A pending task notification, written in the same transaction as the task change and
+ * removed once delivered. {@code availableAt} doubles as the claim lease: a relay pushes it
+ * into the future when it claims the row, so rows claimed by a node that dies become
+ * available again once the lease runs out.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+    @Index(name = "idx_notification_outbox_available", columnList = "available_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+    
+    // Also the dedup key handed to the dispatcher
+    @Id
+    @Column(name = "id")
+    private UUID id;
+    
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+    
+    @Column(name = "payload", nullable = false, length = Length.LONG32)
+    private String payload;
+    
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    public void prePersist() {
+        if (id == null) {
+            id = Uuids.timeOrdered();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        if (availableAt == null) {
+            availableAt = now;
+        }
+    }
+}
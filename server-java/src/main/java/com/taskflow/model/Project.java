@@ -5,6 +5,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.util.UUID;
+
 @Entity
 @Table(name = "projects")
 @Data
@@ -13,8 +15,8 @@ import lombok.AllArgsConstructor;
 public class Project {
     
     @Id
-    @Column(name = "id", columnDefinition = "varchar")
-    private String id;
+    @Column(name = "id")
+    private UUID id;
     
     @Column(name = "name", nullable = false)
     private String name;
@@ -27,8 +29,8 @@ public class Project {
     
     @PrePersist
     public void prePersist() {
-        if (id == null || id.isEmpty()) {
-            id = java.util.UUID.randomUUID().toString();
+        if (id == null) {
+            id = Uuids.timeOrdered();
         }
         if (color == null || color.isEmpty()) {
             color = "#3B82F6";
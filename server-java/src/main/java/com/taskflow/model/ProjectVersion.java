@@ -0,0 +1,34 @@
+package com.taskflow.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Write counter per project, bumped once by every committed transaction that changes the
+ * project or its tasks. Rows are kept after a project is deleted so the global version (the sum
+ * of all rows) never goes backwards.
+ */
+@Entity
+@Table(name = "project_versions", indexes = {
+    @Index(name = "idx_project_versions_updated_at", columnList = "updated_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectVersion {
+    
+    @Id
+    @Column(name = "project_id")
+    private UUID projectId;
+    
+    @Column(name = "version", nullable = false)
+    private long version;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
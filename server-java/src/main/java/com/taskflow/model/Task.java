@@ -4,21 +4,30 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_project_status_due", columnList = "project_id, status, due_date"),
+    @Index(name = "idx_tasks_status_due", columnList = "status, due_date"),
+    @Index(name = "idx_tasks_due_date", columnList = "due_date"),
+    @Index(name = "idx_tasks_updated_at", columnList = "updated_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
     
     @Id
-    @Column(name = "id", columnDefinition = "varchar")
-    private String id;
+    @Column(name = "id")
+    private UUID id;
     
     @Column(name = "project_id", nullable = false)
-    private String projectId;
+    private UUID projectId;
     
     @Column(name = "name", nullable = false)
     private String name;
@@ -27,6 +36,7 @@ public class Task {
     private String description;
     
     @Column(name = "priority", nullable = false)
+    @JdbcTypeCode(SqlTypes.SMALLINT)
     private Integer priority = 3;
     
     @Column(name = "due_date")
@@ -36,6 +46,7 @@ public class Task {
     private String assignee;
     
     @Column(name = "status", nullable = false)
+    @Convert(converter = TaskStatusConverter.class)
     private String status = "PENDING";
     
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -44,10 +55,15 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    // Null until first persisted, which is also how Spring Data tells new tasks from existing ones
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     @PrePersist
     public void prePersist() {
-        if (id == null || id.isEmpty()) {
-            id = java.util.UUID.randomUUID().toString();
+        if (id == null) {
+            id = Uuids.timeOrdered();
         }
         LocalDateTime now = LocalDateTime.now();
         if (createdAt == null) {
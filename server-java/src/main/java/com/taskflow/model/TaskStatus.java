@@ -0,0 +1,68 @@
+package com.taskflow.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Task states and the smallint codes they are stored as. The API keeps using the names.
+ * Every write path checks {@link #canTransitionTo}; today any status may move to any other.
+ */
+public enum TaskStatus {
+    PENDING((short) 0),
+    IN_PROGRESS((short) 1),
+    COMPLETED((short) 2);
+    
+    private final short code;
+    
+    TaskStatus(short code) {
+        this.code = code;
+    }
+    
+    public short getCode() {
+        return code;
+    }
+    
+    public static boolean isValid(String name) {
+        if (name == null) {
+            return false;
+        }
+        for (TaskStatus status : values()) {
+            if (status.name().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public Set<TaskStatus> allowedTransitions() {
+        return switch (this) {
+            case PENDING -> EnumSet.of(IN_PROGRESS, COMPLETED);
+            case IN_PROGRESS -> EnumSet.of(PENDING, COMPLETED);
+            case COMPLETED -> EnumSet.of(PENDING, IN_PROGRESS);
+        };
+    }
+    
+    public boolean canTransitionTo(TaskStatus target) {
+        return allowedTransitions().contains(target);
+    }
+    
+    /** The statuses from which a task may move to {@code target}. */
+    public static Set<TaskStatus> sourcesOf(TaskStatus target) {
+        Set<TaskStatus> sources = EnumSet.noneOf(TaskStatus.class);
+        for (TaskStatus status : values()) {
+            if (status.canTransitionTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
+    
+    public static TaskStatus fromCode(short code) {
+        for (TaskStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task status code: " + code);
+    }
+}
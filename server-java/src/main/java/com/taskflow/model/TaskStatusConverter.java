@@ -0,0 +1,18 @@
+package com.taskflow.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class TaskStatusConverter implements AttributeConverter<String, Short> {
+    
+    @Override
+    public Short convertToDatabaseColumn(String status) {
+        return status != null ? TaskStatus.valueOf(status).getCode() : null;
+    }
+    
+    @Override
+    public String convertToEntityAttribute(Short code) {
+        return code != null ? TaskStatus.fromCode(code).name() : null;
+    }
+}
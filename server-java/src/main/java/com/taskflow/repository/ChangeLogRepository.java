@@ -0,0 +1,53 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+    
+    @Query("SELECT c FROM ChangeLogEntry c WHERE c.id > :after ORDER BY c.id")
+    List<ChangeLogEntry> findAfter(@Param("after") long after, Pageable page);
+    
+    @Query("SELECT c FROM ChangeLogEntry c WHERE c.id > :after AND c.id <= :upTo ORDER BY c.id")
+    List<ChangeLogEntry> findBetween(@Param("after") long after, @Param("upTo") long upTo, Pageable page);
+    
+    @Query("SELECT c FROM ChangeLogEntry c WHERE c.id > :after AND c.id <= :upTo " +
+           "AND (c.projectId = :projectId OR c.previousProjectId = :projectId) ORDER BY c.id")
+    List<ChangeLogEntry> findBetweenForProject(
+        @Param("after") long after,
+        @Param("upTo") long upTo,
+        @Param("projectId") UUID projectId,
+        Pageable page
+    );
+    
+    @Query("SELECT c FROM ChangeLogEntry c WHERE c.recordedAt >= :since AND c.changeType = 'DELETED' ORDER BY c.id")
+    List<ChangeLogEntry> findDeletionsSince(@Param("since") LocalDateTime since);
+    
+    // Deletions within a project plus tasks moved out of it, which have left the project's view
+    @Query("SELECT c FROM ChangeLogEntry c WHERE c.recordedAt >= :since " +
+           "AND ((c.changeType = 'DELETED' AND c.projectId = :projectId) OR c.previousProjectId = :projectId) ORDER BY c.id")
+    List<ChangeLogEntry> findRemovalsSince(@Param("since") LocalDateTime since, @Param("projectId") UUID projectId);
+    
+    @Query("SELECT c FROM ChangeLogEntry c WHERE c.recordedAt >= :since ORDER BY c.id")
+    List<ChangeLogEntry> findRecordedSince(@Param("since") LocalDateTime since);
+    
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM ChangeLogEntry c")
+    long findMaxId();
+    
+    @Query("SELECT COALESCE(MIN(c.id), 0) FROM ChangeLogEntry c")
+    long findMinId();
+    
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.recordedAt < :cutoff")
+    int deleteRecordedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
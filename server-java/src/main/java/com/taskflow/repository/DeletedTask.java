@@ -0,0 +1,14 @@
+package com.taskflow.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class DeletedTask {
+    private UUID id;
+    private UUID projectId;
+    private String status;
+}
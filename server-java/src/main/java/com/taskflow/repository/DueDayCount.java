@@ -0,0 +1,15 @@
+package com.taskflow.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class DueDayCount {
+    private LocalDate day;
+    private String status;
+    private Integer priority;
+    private Long taskCount;
+}
@@ -0,0 +1,58 @@
+package com.taskflow.repository;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * The project properties a {@code fields=} parameter may select, by their JSON/entity name.
+ */
+public enum ProjectField {
+    ID("id", (view, value) -> view.setId((UUID) value)),
+    NAME("name", (view, value) -> view.setName((String) value)),
+    DESCRIPTION("description", (view, value) -> view.setDescription((String) value)),
+    COLOR("color", (view, value) -> view.setColor((String) value));
+    
+    private final String property;
+    private final BiConsumer<ProjectView, Object> setter;
+    
+    ProjectField(String property, BiConsumer<ProjectView, Object> setter) {
+        this.property = property;
+        this.setter = setter;
+    }
+    
+    public String getProperty() {
+        return property;
+    }
+    
+    void set(ProjectView view, Object value) {
+        setter.accept(view, value);
+    }
+    
+    /**
+     * Parses a comma-separated {@code fields=} value. The id is always included. Null for a
+     * missing or blank value, which means whole projects.
+     */
+    public static Set<ProjectField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<ProjectField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                parsed.add(fromProperty(name.trim()));
+            }
+        }
+        return parsed;
+    }
+    
+    public static ProjectField fromProperty(String property) {
+        for (ProjectField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown project field: " + property);
+    }
+}
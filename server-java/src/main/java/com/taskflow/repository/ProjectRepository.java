@@ -2,11 +2,27 @@ package com.taskflow.repository;
 
 import com.taskflow.model.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, String> {
+public interface ProjectRepository extends JpaRepository<Project, UUID>, ProjectRepositoryCustom {
     List<Project> findAllByOrderByNameAsc();
+    
+    @Query("SELECT p.id FROM Project p")
+    List<UUID> findAllIds();
+    
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+    
+    // Unlike deleteById, does not load the entity first
+    @Modifying
+    @Query("DELETE FROM Project p WHERE p.id = :id")
+    int deleteProjectRow(@Param("id") UUID id);
 }
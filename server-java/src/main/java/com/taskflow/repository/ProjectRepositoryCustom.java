@@ -0,0 +1,9 @@
+package com.taskflow.repository;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ProjectRepositoryCustom {
+    
+    List<ProjectView> findAllViews(Set<ProjectField> fields);
+}
@@ -0,0 +1,34 @@
+package com.taskflow.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    // Same order as findAllByOrderByNameAsc; tuple elements follow the set's iteration order.
+    @Override
+    public List<ProjectView> findAllViews(Set<ProjectField> fields) {
+        String jpql = "SELECT " + fields.stream().map(field -> "p." + field.getProperty()).collect(Collectors.joining(", "))
+                + " FROM Project p ORDER BY p.name ASC";
+        List<Tuple> rows = entityManager.createQuery(jpql, Tuple.class).getResultList();
+        List<ProjectView> views = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            ProjectView view = new ProjectView();
+            int position = 0;
+            for (ProjectField field : fields) {
+                field.set(view, row.get(position++));
+            }
+            views.add(view);
+        }
+        return views;
+    }
+}
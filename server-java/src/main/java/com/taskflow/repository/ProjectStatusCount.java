@@ -0,0 +1,9 @@
+package com.taskflow.repository;
+
+import java.util.UUID;
+
+public interface ProjectStatusCount {
+    UUID getProjectId();
+    String getStatus();
+    Long getTaskCount();
+}
@@ -0,0 +1,24 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.ProjectVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectVersionRepository extends JpaRepository<ProjectVersion, UUID> {
+    
+    List<ProjectVersion> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+    
+    @Query("SELECT COALESCE(SUM(v.version), 0) FROM ProjectVersion v")
+    long sumVersions();
+    
+    @Query("SELECT COALESCE(SUM(v.version), 0) FROM ProjectVersion v WHERE v.projectId IN :projectIds")
+    long sumVersions(@Param("projectIds") Collection<UUID> projectIds);
+}
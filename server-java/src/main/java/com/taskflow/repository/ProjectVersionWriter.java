@@ -0,0 +1,61 @@
+package com.taskflow.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Increments project version rows, creating them on first use. Must run inside the writing
+ * transaction; callers pass ids in a fixed order so concurrent writers lock rows in the same
+ * order and cannot deadlock.
+ */
+@Repository
+public class ProjectVersionWriter {
+    
+    private static final String POSTGRES_UPSERT =
+        "INSERT INTO project_versions (project_id, version, updated_at) VALUES (?, 1, LOCALTIMESTAMP) " +
+        "ON CONFLICT (project_id) DO UPDATE SET version = project_versions.version + 1, updated_at = LOCALTIMESTAMP " +
+        "RETURNING version";
+    private static final String STANDARD_MERGE =
+        "MERGE INTO project_versions t USING (VALUES (CAST(? AS UUID))) s (project_id) ON t.project_id = s.project_id " +
+        "WHEN MATCHED THEN UPDATE SET version = t.version + 1, updated_at = LOCALTIMESTAMP " +
+        "WHEN NOT MATCHED THEN INSERT (project_id, version, updated_at) VALUES (s.project_id, 1, LOCALTIMESTAMP)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+    
+    public ProjectVersionWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    /**
+     * @return the new version of each project
+     */
+    public Map<UUID, Long> increment(Collection<UUID> projectIds) {
+        Map<UUID, Long> versions = new LinkedHashMap<>();
+        for (UUID projectId : projectIds) {
+            if (isPostgres()) {
+                versions.put(projectId, jdbcTemplate.queryForObject(POSTGRES_UPSERT, Long.class, projectId));
+            } else {
+                // MERGE has no RETURNING; the row is locked by now, so the read sees our own increment.
+                jdbcTemplate.update(STANDARD_MERGE, projectId);
+                versions.put(projectId, jdbcTemplate.queryForObject(
+                    "SELECT version FROM project_versions WHERE project_id = ?", Long.class, projectId));
+            }
+        }
+        return versions;
+    }
+    
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskflow.repository;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * A project with only the columns named in a {@code fields=} request filled in; the others are
+ * left out of the JSON.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectView {
+    private UUID id;
+    private String name;
+    private String description;
+    private String color;
+}
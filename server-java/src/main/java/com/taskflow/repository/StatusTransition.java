@@ -0,0 +1,13 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class StatusTransition {
+    // The row as written by the transition
+    private Task task;
+    private String previousStatus;
+}
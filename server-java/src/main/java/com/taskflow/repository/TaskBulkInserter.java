@@ -0,0 +1,114 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Inserts pre-built tasks without going through the persistence context: {@code COPY} on
+ * PostgreSQL, large JDBC batches elsewhere (H2). Callers own the transaction and must
+ * assign ids and timestamps, since no JPA callbacks run.
+ */
+@Repository
+public class TaskBulkInserter {
+    
+    private static final String COLUMNS =
+        "id, project_id, name, description, priority, due_date, assignee, status, created_at, updated_at, version";
+    private static final int JDBC_BATCH_SIZE = 1000;
+    // What Hibernate assigns to a newly persisted @Version
+    private static final long INITIAL_VERSION = 0;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+    
+    public TaskBulkInserter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    public void insert(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        if (isPostgres()) {
+            copy(tasks);
+        } else {
+            batchInsert(tasks);
+        }
+    }
+    
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+    
+    private void copy(List<Task> tasks) {
+        StringBuilder csv = new StringBuilder(tasks.size() * 160);
+        for (Task task : tasks) {
+            appendCsv(csv, task.getId()).append(',');
+            appendCsv(csv, task.getProjectId()).append(',');
+            appendCsv(csv, task.getName()).append(',');
+            appendCsv(csv, task.getDescription()).append(',');
+            appendCsv(csv, task.getPriority()).append(',');
+            appendCsv(csv, task.getDueDate()).append(',');
+            appendCsv(csv, task.getAssignee()).append(',');
+            appendCsv(csv, TaskStatus.valueOf(task.getStatus()).getCode()).append(',');
+            appendCsv(csv, task.getCreatedAt()).append(',');
+            appendCsv(csv, task.getUpdatedAt()).append(',');
+            appendCsv(csv, INITIAL_VERSION).append('\n');
+        }
+        
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return copyManager.copyIn(
+                    "COPY tasks (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)",
+                    new StringReader(csv.toString())
+                );
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+    
+    // In COPY's CSV format an unquoted empty field is NULL, so every non-null value is quoted.
+    private static StringBuilder appendCsv(StringBuilder csv, Object value) {
+        if (value == null) {
+            return csv;
+        }
+        return csv.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+    }
+    
+    private void batchInsert(List<Task> tasks) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO tasks (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            tasks,
+            JDBC_BATCH_SIZE,
+            (ps, task) -> {
+                ps.setObject(1, task.getId());
+                ps.setObject(2, task.getProjectId());
+                ps.setString(3, task.getName());
+                ps.setString(4, task.getDescription());
+                ps.setShort(5, task.getPriority().shortValue());
+                ps.setObject(6, task.getDueDate(), Types.TIMESTAMP);
+                ps.setString(7, task.getAssignee());
+                ps.setShort(8, TaskStatus.valueOf(task.getStatus()).getCode());
+                ps.setObject(9, task.getCreatedAt());
+                ps.setObject(10, task.getUpdatedAt());
+                ps.setLong(11, INITIAL_VERSION);
+            }
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position: the sort key of the last row on a page plus its id as a tie-breaker.
+ */
+@Data
+@AllArgsConstructor
+public class TaskCursor {
+    
+    private static final String SEPARATOR = "\n";
+    
+    private TaskSortField sortField;
+    private boolean descending;
+    private Object value;
+    private UUID id;
+    
+    public static TaskCursor after(Task task, TaskSortField sortField, boolean descending) {
+        return new TaskCursor(sortField, descending, sortField.parseCursorValue(sortField.cursorValue(task)), task.getId());
+    }
+    
+    public static TaskCursor after(TaskView task, TaskSortField sortField, boolean descending) {
+        return new TaskCursor(sortField, descending, sortField.parseCursorValue(sortField.cursorValue(task)), task.getId());
+    }
+    
+    public String encode() {
+        String raw = sortField.getProperty() + SEPARATOR
+                + (descending ? "desc" : "asc") + SEPARATOR
+                + id + SEPARATOR
+                + (value != null ? "=" + value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4 || parts[2].isEmpty()) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            TaskSortField sortField = TaskSortField.fromParam(parts[0]);
+            boolean descending = "desc".equals(parts[1]);
+            Object value = parts[3].startsWith("=") ? sortField.parseCursorValue(parts[3].substring(1)) : null;
+            if (value == null && !sortField.isNullable()) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new TaskCursor(sortField, descending, value, UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
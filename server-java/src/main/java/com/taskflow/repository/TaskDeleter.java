@@ -0,0 +1,79 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.TaskStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Deletes tasks with one statement each, without loading them into the persistence context, and
+ * returns what was removed so callers can publish events and report counts. PostgreSQL uses
+ * {@code DELETE ... RETURNING}; H2 reads the same columns from an {@code OLD TABLE} delta.
+ * Callers own the transaction.
+ */
+@Repository
+public class TaskDeleter {
+    
+    private static final String DELETE_BY_ID = "DELETE FROM tasks WHERE id = ?";
+    // LIMIT in a subquery keeps each chunk's row locks and undo small on very large projects
+    private static final String DELETE_PROJECT_CHUNK =
+        "DELETE FROM tasks WHERE id IN (SELECT id FROM tasks WHERE project_id = ? LIMIT ?)";
+    
+    private static final RowMapper<DeletedTask> DELETED_TASK = (rs, rowNum) -> new DeletedTask(
+        rs.getObject("id", UUID.class),
+        rs.getObject("project_id", UUID.class),
+        TaskStatus.fromCode(rs.getShort("status")).name()
+    );
+    
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+    
+    public TaskDeleter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    public Optional<DeletedTask> delete(UUID id) {
+        return jdbcTemplate.query(returning(DELETE_BY_ID), DELETED_TASK, id).stream().findFirst();
+    }
+    
+    /**
+     * Deletes up to {@code limit} tasks of one project. Fewer than {@code limit} rows means the
+     * project has no tasks left.
+     */
+    public List<DeletedTask> deleteProjectChunk(UUID projectId, int limit) {
+        return jdbcTemplate.query(returning(DELETE_PROJECT_CHUNK), DELETED_TASK, projectId, limit);
+    }
+    
+    /**
+     * Deleted projects that still have tasks, e.g. because a purge was cut short by a restart.
+     * Only ids logged as deleted in {@code change_log} qualify, so tasks pointing at an id that
+     * never was a project are left alone.
+     */
+    public List<UUID> findOrphanedProjectIds() {
+        return jdbcTemplate.queryForList(
+            "SELECT DISTINCT c.entity_id FROM change_log c " +
+            "WHERE c.entity_type = 'PROJECT' AND c.change_type = 'DELETED' " +
+            "AND NOT EXISTS (SELECT 1 FROM projects p WHERE p.id = c.entity_id) " +
+            "AND EXISTS (SELECT 1 FROM tasks t WHERE t.project_id = c.entity_id)",
+            UUID.class);
+    }
+    
+    private String returning(String delete) {
+        return isPostgres()
+            ? delete + " RETURNING id, project_id, status"
+            : "SELECT id, project_id, status FROM OLD TABLE (" + delete + ")";
+    }
+    
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskflow.repository;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * The task properties a {@code fields=} parameter may select, by their JSON/entity name.
+ */
+public enum TaskField {
+    ID("id", (view, value) -> view.setId((UUID) value)),
+    PROJECT_ID("projectId", (view, value) -> view.setProjectId((UUID) value)),
+    NAME("name", (view, value) -> view.setName((String) value)),
+    DESCRIPTION("description", (view, value) -> view.setDescription((String) value)),
+    PRIORITY("priority", (view, value) -> view.setPriority((Integer) value)),
+    DUE_DATE("dueDate", (view, value) -> view.setDueDate((LocalDateTime) value)),
+    ASSIGNEE("assignee", (view, value) -> view.setAssignee((String) value)),
+    STATUS("status", (view, value) -> view.setStatus((String) value)),
+    CREATED_AT("createdAt", (view, value) -> view.setCreatedAt((LocalDateTime) value)),
+    UPDATED_AT("updatedAt", (view, value) -> view.setUpdatedAt((LocalDateTime) value)),
+    VERSION("version", (view, value) -> view.setVersion((Long) value));
+    
+    private final String property;
+    private final BiConsumer<TaskView, Object> setter;
+    
+    TaskField(String property, BiConsumer<TaskView, Object> setter) {
+        this.property = property;
+        this.setter = setter;
+    }
+    
+    public String getProperty() {
+        return property;
+    }
+    
+    void set(TaskView view, Object value) {
+        setter.accept(view, value);
+    }
+    
+    /**
+     * Parses a comma-separated {@code fields=} value. The id is always included. Null for a
+     * missing or blank value, which means whole tasks.
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<TaskField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                parsed.add(fromProperty(name.trim()));
+            }
+        }
+        return parsed;
+    }
+    
+    public static TaskField fromProperty(String property) {
+        for (TaskField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task field: " + property);
+    }
+    
+    /** {@code fields} plus the id, which views are matched and cursors built by. */
+    public static Set<TaskField> withId(Set<TaskField> fields) {
+        Set<TaskField> withId = EnumSet.of(ID);
+        withId.addAll(fields);
+        return withId;
+    }
+    
+    /** {@code fields} plus the id and the sort key, which keyset paging needs from the last row. */
+    public static Set<TaskField> withSortKey(Set<TaskField> fields, TaskSortField sortField) {
+        Set<TaskField> withKey = withId(fields);
+        if (sortField != null) {
+            withKey.add(fromProperty(sortField.getProperty()));
+        }
+        return withKey;
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Task predicates, all of which must hold. Statuses and priorities each match any of their
+ * values, so {@code status=PENDING,IN_PROGRESS&priority=1} reads as
+ * {@code (PENDING OR IN_PROGRESS) AND 1}; null or empty means no restriction.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+    private UUID projectId;
+    private Set<String> statuses;
+    private Set<Integer> priorities;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String assignee;
+    // Only rows with updatedAt at or after this instant (delta sync)
+    private LocalDateTime updatedSince;
+    
+    public TaskFilter(UUID projectId, String status, Integer priority, LocalDateTime startDate, LocalDateTime endDate) {
+        this(projectId, status != null ? Set.of(status) : null, priority != null ? Set.of(priority) : null, startDate, endDate, null, null);
+    }
+    
+    /** A filter matching any of {@code statuses} and any of {@code priorities}; null or empty lists do not restrict. */
+    public static TaskFilter anyOf(UUID projectId, Collection<String> statuses, Collection<Integer> priorities,
+                                   LocalDateTime startDate, LocalDateTime endDate) {
+        return new TaskFilter(projectId, copyOrNull(statuses), copyOrNull(priorities), startDate, endDate, null, null);
+    }
+    
+    public boolean hasStatuses() {
+        return statuses != null && !statuses.isEmpty();
+    }
+    
+    public boolean hasPriorities() {
+        return priorities != null && !priorities.isEmpty();
+    }
+    
+    public boolean matchesStatus(String status) {
+        return !hasStatuses() || statuses.contains(status);
+    }
+    
+    public boolean matchesPriority(Integer priority) {
+        return !hasPriorities() || priorities.contains(priority);
+    }
+    
+    /** Stored codes of the statuses; unknown names are left out, as they match nothing. */
+    public List<Short> statusCodes() {
+        return statuses.stream().filter(TaskStatus::isValid).map(status -> TaskStatus.valueOf(status).getCode()).toList();
+    }
+    
+    public List<Short> priorityCodes() {
+        return priorities.stream().map(Integer::shortValue).toList();
+    }
+    
+    private static <T> Set<T> copyOrNull(Collection<T> values) {
+        return values == null || values.isEmpty() ? null : Set.copyOf(values);
+    }
+}
@@ -6,40 +6,24 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, String> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
     
-    List<Task> findByProjectId(String projectId);
+    List<Task> findByProjectId(UUID projectId);
     
     List<Task> findByStatus(String status);
     
     List<Task> findByPriority(Integer priority);
     
-    @Query("SELECT t FROM Task t WHERE " +
-           "(:projectId IS NULL OR t.projectId = :projectId) AND " +
-           "(:status IS NULL OR t.status = :status) AND " +
-           "(:priority IS NULL OR t.priority = :priority)")
-    List<Task> findTasksWithFilters(
-        @Param("projectId") String projectId,
-        @Param("status") String status,
-        @Param("priority") Integer priority
-    );
+    @Query("SELECT t.projectId AS projectId, t.status AS status, COUNT(t) AS taskCount " +
+           "FROM Task t GROUP BY t.projectId, t.status")
+    List<ProjectStatusCount> countByProjectAndStatus();
     
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.projectId = :projectId")
-    Long countByProjectId(@Param("projectId") String projectId);
-    
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.projectId = :projectId AND t.status = 'COMPLETED'")
-    Long countCompletedByProjectId(@Param("projectId") String projectId);
-    
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.projectId = :projectId AND t.status = 'IN_PROGRESS'")
-    Long countInProgressByProjectId(@Param("projectId") String projectId);
-    
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.projectId = :projectId AND t.status = 'PENDING'")
-    Long countPendingByProjectId(@Param("projectId") String projectId);
-    
-    @Query("SELECT t.projectId FROM Task t GROUP BY t.projectId")
-    List<String> findDistinctProjectIds();
+    @Query("SELECT t.projectId AS projectId, t.status AS status, COUNT(t) AS taskCount " +
+           "FROM Task t WHERE t.projectId IN :projectIds GROUP BY t.projectId, t.status")
+    List<ProjectStatusCount> countByProjectAndStatus(@Param("projectIds") Collection<UUID> projectIds);
 }
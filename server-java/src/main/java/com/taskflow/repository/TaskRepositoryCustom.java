@@ -0,0 +1,29 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+    
+    List<Task> findTasks(TaskFilter filter, TaskSortField sortField, boolean descending);
+    
+    List<Task> findTaskPage(TaskFilter filter, TaskSortField sortField, boolean descending, TaskCursor after, int limit);
+    
+    List<TaskView> findTaskViews(TaskFilter filter, TaskSortField sortField, boolean descending, TaskCursor after, Integer limit, Set<TaskField> fields);
+    
+    List<TaskView> findTaskViewsById(Collection<UUID> ids, TaskFilter filter, Set<TaskField> fields);
+    
+    long countTasks(TaskFilter filter);
+    
+    Stream<Task> streamTasks(TaskFilter filter, TaskSortField sortField, boolean descending, int fetchSize);
+    
+    List<DueDayCount> countByDueDay(LocalDateTime from, LocalDateTime to, TaskFilter filter);
+    
+    List<Task> findFirstByDueDay(LocalDateTime from, LocalDateTime to, TaskFilter filter, int perDay);
+}
@@ -0,0 +1,259 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    
+    private static final String NATIVE_COLUMNS =
+        "id, project_id, name, description, priority, due_date, assignee, status, created_at, updated_at, version";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<Task> findTasks(TaskFilter filter, TaskSortField sortField, boolean descending) {
+        return query(filter, sortField, descending, null, null);
+    }
+    
+    @Override
+    public List<Task> findTaskPage(TaskFilter filter, TaskSortField sortField, boolean descending, TaskCursor after, int limit) {
+        return query(filter, sortField, descending, after, limit);
+    }
+    
+    // Selects only the requested columns, as plain rows that never enter the persistence context.
+    @Override
+    public List<TaskView> findTaskViews(TaskFilter filter, TaskSortField sortField, boolean descending, TaskCursor after, Integer limit, Set<TaskField> fields) {
+        Map<String, Object> params = new HashMap<>();
+        List<String> predicates = filterPredicates(filter, params);
+        if (after != null) {
+            predicates.add(keysetPredicate(sortField, descending, after, params));
+        }
+        String jpql = select(fields) + " FROM Task t" + where(predicates) + (sortField != null ? orderBy(sortField, descending) : "");
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        params.forEach(query::setParameter);
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+        return toViews(query.getResultList(), fields);
+    }
+    
+    // Re-applies the filter, so rows that changed since their ids were chosen and no longer match are left out.
+    @Override
+    public List<TaskView> findTaskViewsById(Collection<UUID> ids, TaskFilter filter, Set<TaskField> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Object> params = new HashMap<>();
+        List<String> predicates = filterPredicates(filter, params);
+        predicates.add("t.id IN :ids");
+        params.put("ids", ids);
+        TypedQuery<Tuple> query = entityManager.createQuery(select(fields) + " FROM Task t" + where(predicates), Tuple.class);
+        params.forEach(query::setParameter);
+        return toViews(query.getResultList(), fields);
+    }
+    
+    @Override
+    public long countTasks(TaskFilter filter) {
+        Map<String, Object> params = new HashMap<>();
+        String jpql = "SELECT COUNT(t) FROM Task t" + where(filterPredicates(filter, params));
+        TypedQuery<Long> query = entityManager.createQuery(jpql, Long.class);
+        params.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+    
+    // Rows are read-only and detached as they are consumed, so the persistence context stays empty
+    // however many rows the caller walks through. Must be consumed inside a transaction.
+    @Override
+    public Stream<Task> streamTasks(TaskFilter filter, TaskSortField sortField, boolean descending, int fetchSize) {
+        TypedQuery<Task> query = createQuery(filter, sortField, descending, null);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream().peek(entityManager::detach);
+    }
+    
+    // Tasks due in [from, to) grouped by due day, status and priority; the range is served by the due_date indexes.
+    @Override
+    public List<DueDayCount> countByDueDay(LocalDateTime from, LocalDateTime to, TaskFilter filter) {
+        Map<String, Object> params = new HashMap<>();
+        List<String> predicates = filterPredicates(filter, params);
+        predicates.add("t.dueDate >= :from AND t.dueDate < :to");
+        params.put("from", from);
+        params.put("to", to);
+        
+        String day = "cast(t.dueDate as LocalDate)";
+        String jpql = "SELECT new com.taskflow.repository.DueDayCount(" + day + ", t.status, t.priority, COUNT(t))"
+                + " FROM Task t" + where(predicates)
+                + " GROUP BY " + day + ", t.status, t.priority";
+        TypedQuery<DueDayCount> query = entityManager.createQuery(jpql, DueDayCount.class);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+    
+    // The first perDay tasks of each due day, in due date order. ROW_NUMBER is not expressible in
+    // JPQL here, so this is native SQL that PostgreSQL and H2 both accept.
+    @Override
+    public List<Task> findFirstByDueDay(LocalDateTime from, LocalDateTime to, TaskFilter filter, int perDay) {
+        Map<String, Object> params = new HashMap<>();
+        List<String> predicates = new ArrayList<>();
+        predicates.add("t.due_date >= :from AND t.due_date < :to");
+        params.put("from", from);
+        params.put("to", to);
+        if (filter.getProjectId() != null) {
+            predicates.add("t.project_id = :projectId");
+            params.put("projectId", filter.getProjectId());
+        }
+        if (filter.hasStatuses()) {
+            List<Short> statusCodes = filter.statusCodes();
+            predicates.add(statusCodes.isEmpty() ? "1 = 0" : "t.status IN (:statuses)");
+            if (!statusCodes.isEmpty()) {
+                params.put("statuses", statusCodes);
+            }
+        }
+        if (filter.hasPriorities()) {
+            predicates.add("t.priority IN (:priorities)");
+            params.put("priorities", filter.priorityCodes());
+        }
+        params.put("perDay", perDay);
+        
+        String sql = "SELECT " + NATIVE_COLUMNS + " FROM ("
+                + "SELECT t.*, ROW_NUMBER() OVER (PARTITION BY CAST(t.due_date AS DATE) ORDER BY t.due_date, t.id) AS day_rank"
+                + " FROM tasks t" + where(predicates)
+                + ") ranked WHERE day_rank <= :perDay ORDER BY due_date, id";
+        Query query = entityManager.createNativeQuery(sql, Task.class);
+        params.forEach(query::setParameter);
+        @SuppressWarnings("unchecked")
+        List<Task> tasks = query.getResultList();
+        return tasks;
+    }
+    
+    private List<Task> query(TaskFilter filter, TaskSortField sortField, boolean descending, TaskCursor after, Integer limit) {
+        TypedQuery<Task> query = createQuery(filter, sortField, descending, after);
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+    
+    private TypedQuery<Task> createQuery(TaskFilter filter, TaskSortField sortField, boolean descending, TaskCursor after) {
+        Map<String, Object> params = new HashMap<>();
+        List<String> predicates = filterPredicates(filter, params);
+        if (after != null) {
+            predicates.add(keysetPredicate(sortField, descending, after, params));
+        }
+        
+        String jpql = "SELECT t FROM Task t" + where(predicates) + (sortField != null ? orderBy(sortField, descending) : "");
+        TypedQuery<Task> query = entityManager.createQuery(jpql, Task.class);
+        params.forEach(query::setParameter);
+        return query;
+    }
+    
+    // Only predicates for supplied filters are emitted, so Postgres never sees an untyped null parameter.
+    private List<String> filterPredicates(TaskFilter filter, Map<String, Object> params) {
+        List<String> predicates = new ArrayList<>();
+        if (filter == null) {
+            return predicates;
+        }
+        if (filter.getProjectId() != null) {
+            predicates.add("t.projectId = :projectId");
+            params.put("projectId", filter.getProjectId());
+        }
+        if (filter.hasStatuses()) {
+            // Status is stored as a code, so an unknown name cannot be bound; it simply matches nothing.
+            List<String> statuses = filter.getStatuses().stream().filter(TaskStatus::isValid).toList();
+            if (!statuses.isEmpty()) {
+                predicates.add("t.status IN :statuses");
+                params.put("statuses", statuses);
+            } else {
+                predicates.add("1 = 0");
+            }
+        }
+        if (filter.hasPriorities()) {
+            predicates.add("t.priority IN :priorities");
+            params.put("priorities", filter.getPriorities());
+        }
+        if (filter.getAssignee() != null) {
+            predicates.add("t.assignee = :assignee");
+            params.put("assignee", filter.getAssignee());
+        }
+        // Tasks without a due date always pass the date range, as they did in the in-memory filter.
+        if (filter.getStartDate() != null) {
+            predicates.add("(t.dueDate IS NULL OR t.dueDate >= :startDate)");
+            params.put("startDate", filter.getStartDate());
+        }
+        if (filter.getEndDate() != null) {
+            predicates.add("(t.dueDate IS NULL OR t.dueDate <= :endDate)");
+            params.put("endDate", filter.getEndDate());
+        }
+        if (filter.getUpdatedSince() != null) {
+            predicates.add("t.updatedAt >= :updatedSince");
+            params.put("updatedSince", filter.getUpdatedSince());
+        }
+        return predicates;
+    }
+    
+    // Mirrors orderBy(): a null due date sorts as the largest value, i.e. last ascending and first descending.
+    private String keysetPredicate(TaskSortField sortField, boolean descending, TaskCursor after, Map<String, Object> params) {
+        String column = "t." + sortField.getProperty();
+        String cmp = descending ? "<" : ">";
+        params.put("cursorId", after.getId());
+        
+        if (after.getValue() == null) {
+            return descending
+                    ? "((" + column + " IS NULL AND t.id < :cursorId) OR " + column + " IS NOT NULL)"
+                    : "(" + column + " IS NULL AND t.id > :cursorId)";
+        }
+        
+        params.put("cursorValue", after.getValue());
+        String predicate = column + " " + cmp + " :cursorValue OR (" + column + " = :cursorValue AND t.id " + cmp + " :cursorId)";
+        if (sortField.isNullable() && !descending) {
+            predicate += " OR " + column + " IS NULL";
+        }
+        return "(" + predicate + ")";
+    }
+    
+    private String orderBy(TaskSortField sortField, boolean descending) {
+        String direction = descending ? "DESC" : "ASC";
+        String nulls = descending ? "NULLS FIRST" : "NULLS LAST";
+        return " ORDER BY t." + sortField.getProperty() + " " + direction + " " + nulls + ", t.id " + direction;
+    }
+    
+    private static String select(Set<TaskField> fields) {
+        return "SELECT " + fields.stream().map(field -> "t." + field.getProperty()).collect(Collectors.joining(", "));
+    }
+    
+    // Tuple elements are in the set's iteration order, the same order select() listed them in.
+    private static List<TaskView> toViews(List<Tuple> rows, Set<TaskField> fields) {
+        List<TaskView> views = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            TaskView view = new TaskView();
+            int position = 0;
+            for (TaskField field : fields) {
+                field.set(view, row.get(position++));
+            }
+            views.add(view);
+        }
+        return views;
+    }
+    
+    private String where(List<String> predicates) {
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+
+import java.time.LocalDateTime;
+
+public enum TaskSortField {
+    DUE_DATE("dueDate", true),
+    PRIORITY("priority", false),
+    NAME("name", false),
+    UPDATED_AT("updatedAt", false);
+    
+    private final String property;
+    private final boolean nullable;
+    
+    TaskSortField(String property, boolean nullable) {
+        this.property = property;
+        this.nullable = nullable;
+    }
+    
+    public String getProperty() {
+        return property;
+    }
+    
+    public boolean isNullable() {
+        return nullable;
+    }
+    
+    public static TaskSortField fromParam(String sortBy) {
+        TaskSortField field = fromParamOrNull(sortBy);
+        if (field == null) {
+            throw new IllegalArgumentException("Unsupported sort field: " + sortBy);
+        }
+        return field;
+    }
+    
+    public static TaskSortField fromParamOrNull(String sortBy) {
+        if (sortBy == null) {
+            return DUE_DATE;
+        }
+        for (TaskSortField field : values()) {
+            if (field.property.equals(sortBy)) {
+                return field;
+            }
+        }
+        return null;
+    }
+    
+    public String cursorValue(Task task) {
+        return switch (this) {
+            case DUE_DATE -> task.getDueDate() != null ? task.getDueDate().toString() : null;
+            case PRIORITY -> String.valueOf(task.getPriority());
+            case NAME -> task.getName();
+            case UPDATED_AT -> task.getUpdatedAt().toString();
+        };
+    }
+    
+    public String cursorValue(TaskView task) {
+        return switch (this) {
+            case DUE_DATE -> task.getDueDate() != null ? task.getDueDate().toString() : null;
+            case PRIORITY -> String.valueOf(task.getPriority());
+            case NAME -> task.getName();
+            case UPDATED_AT -> task.getUpdatedAt().toString();
+        };
+    }
+    
+    public Object parseCursorValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (this) {
+            case DUE_DATE -> LocalDateTime.parse(value);
+            case PRIORITY -> Integer.valueOf(value);
+            case NAME -> value;
+            case UPDATED_AT -> LocalDateTime.parse(value);
+        };
+    }
+}
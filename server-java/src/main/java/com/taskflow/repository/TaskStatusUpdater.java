@@ -0,0 +1,97 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Moves a task to a new status with one conditional {@code UPDATE}, bypassing the persistence
+ * context: the row only changes if its current status may transition to the new one and, when
+ * given, its version still matches. Returns nothing if no row qualified, which callers tell
+ * apart by reading the task.
+ * <p>
+ * The pre-update status is read back in the same statement: a self-join in PostgreSQL's
+ * {@code UPDATE ... FROM ... RETURNING} (the version equality guards against the joined row
+ * being older than the updated one), an {@code OLD TABLE} delta on H2. Callers own the
+ * transaction.
+ */
+@Repository
+public class TaskStatusUpdater {
+    
+    private static final String COLUMNS = "id, project_id, name, description, priority, due_date, assignee, created_at";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+    
+    public TaskStatusUpdater(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    public Optional<StatusTransition> transition(UUID id, TaskStatus target, Long expectedVersion) {
+        Set<TaskStatus> sources = TaskStatus.sourcesOf(target);
+        String sourceCodes = sources.stream().map(status -> String.valueOf(status.getCode())).collect(Collectors.joining(", "));
+        // Truncated to what the column stores, so the returned task matches a later read
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        
+        List<Object> args = new ArrayList<>(List.of(target.getCode(), Timestamp.valueOf(now), id));
+        String versionCondition = "";
+        if (expectedVersion != null) {
+            versionCondition = " AND t.version = ?";
+            args.add(expectedVersion);
+        }
+        
+        String sql;
+        if (isPostgres()) {
+            sql = "UPDATE tasks t SET status = ?, updated_at = ?, version = t.version + 1 FROM tasks prev " +
+                  "WHERE prev.id = t.id AND t.id = ? AND t.status IN (" + sourceCodes + ")" + versionCondition +
+                  " AND prev.version = t.version " +
+                  "RETURNING " + qualified("t") + ", prev.status AS previous_status, prev.version AS previous_version";
+        } else {
+            sql = "SELECT " + COLUMNS + ", status AS previous_status, version AS previous_version FROM OLD TABLE (" +
+                  "UPDATE tasks t SET status = ?, updated_at = ?, version = version + 1 " +
+                  "WHERE t.id = ? AND t.status IN (" + sourceCodes + ")" + versionCondition + ")";
+        }
+        
+        RowMapper<StatusTransition> mapper = (rs, rowNum) -> {
+            Task task = new Task();
+            task.setId(rs.getObject("id", UUID.class));
+            task.setProjectId(rs.getObject("project_id", UUID.class));
+            task.setName(rs.getString("name"));
+            task.setDescription(rs.getString("description"));
+            task.setPriority((int) rs.getShort("priority"));
+            task.setDueDate(rs.getObject("due_date", LocalDateTime.class));
+            task.setAssignee(rs.getString("assignee"));
+            task.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+            task.setStatus(target.name());
+            task.setUpdatedAt(now);
+            task.setVersion(rs.getLong("previous_version") + 1);
+            return new StatusTransition(task, TaskStatus.fromCode(rs.getShort("previous_status")).name());
+        };
+        return jdbcTemplate.query(sql, mapper, args.toArray()).stream().findFirst();
+    }
+    
+    private static String qualified(String alias) {
+        return alias + "." + COLUMNS.replace(", ", ", " + alias + ".");
+    }
+    
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskflow.repository;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A task with only the columns named in a {@code fields=} request filled in. Plain object, so
+ * unlike {@link com.taskflow.model.Task} rows it carries no persistence-context state.
+ * Fields that were not selected (or are null) are left out of the JSON.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskView {
+    private UUID id;
+    private UUID projectId;
+    private String name;
+    private String description;
+    private Integer priority;
+    private LocalDateTime dueDate;
+    private String assignee;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+}
@@ -0,0 +1,148 @@
+package com.taskflow.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.taskflow.config.CacheConfig;
+import com.taskflow.dto.CacheStatsResponse;
+import com.taskflow.event.ProjectChangedEvent;
+import com.taskflow.event.ProjectTasksPurgedEvent;
+import com.taskflow.event.ChangeType;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.model.ChangeLogEntry;
+import com.taskflow.model.Task;
+import com.taskflow.repository.ChangeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evicts cached entries once the write that invalidates them has committed, and reports
+ * Caffeine's statistics. Evicting after commit (rather than with {@code @CacheEvict} inside the
+ * transaction) keeps a concurrent reader from re-caching the pre-commit row.
+ * <p>
+ * Writes made on other nodes are picked up from {@code change_log}, polled like the filter
+ * index does, so a remote write is served stale for at most
+ * {@code taskflow.cache.poll-interval-ms} rather than until the entry expires.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "taskflow.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheService implements ChangeLogFollower {
+    
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(10);
+    private static final int RECENT_IDS_RETAINED = 100_000;
+    
+    private final CacheManager cacheManager;
+    private final ChangeLogRepository changeLogRepository;
+    private final Set<Long> appliedChangeIds = Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > RECENT_IDS_RETAINED;
+        }
+    }));
+    private volatile LocalDateTime lastPoll = LocalDateTime.now();
+    
+    public CacheService(CacheManager cacheManager, ChangeLogRepository changeLogRepository) {
+        this.cacheManager = cacheManager;
+        this.changeLogRepository = changeLogRepository;
+    }
+    
+    @Order(VersionTracker.INVALIDATION_ORDER)
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        evict(CacheConfig.PROJECTS, "all");
+        evict(CacheConfig.PROJECT, event.getProjectId());
+    }
+    
+    @Order(VersionTracker.INVALIDATION_ORDER)
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        evict(CacheConfig.TASK, event.getTaskId());
+    }
+    
+    @Order(VersionTracker.INVALIDATION_ORDER)
+    @TransactionalEventListener
+    public void onProjectTasksPurged(ProjectTasksPurgedEvent event) {
+        event.getTaskIds().forEach(taskId -> evict(CacheConfig.TASK, taskId));
+    }
+    
+    @Scheduled(
+        initialDelayString = "${taskflow.cache.poll-interval-ms:1000}",
+        fixedDelayString = "${taskflow.cache.poll-interval-ms:1000}"
+    )
+    @Override
+    public synchronized void poll() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            // Re-reading an overlap catches rows that committed late; already applied ones are skipped.
+            // This node's own writes come back too, and evicting them again is harmless.
+            for (ChangeLogEntry entry : changeLogRepository.findRecordedSince(lastPoll.minus(POLL_OVERLAP))) {
+                if (appliedChangeIds.add(entry.getId())) {
+                    apply(entry);
+                }
+            }
+            lastPoll = now;
+        } catch (Exception e) {
+            log.error("Cache eviction poll failed", e);
+        }
+    }
+    
+    public Map<String, CacheStatsResponse> getStats() {
+        Map<String, CacheStatsResponse> stats = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                CacheStats cacheStats = cache.getNativeCache().stats();
+                stats.put(name, new CacheStatsResponse(
+                    cache.getNativeCache().estimatedSize(),
+                    cacheStats.hitCount(),
+                    cacheStats.missCount(),
+                    cacheStats.hitRate(),
+                    cacheStats.evictionCount()
+                ));
+            }
+        }
+        return stats;
+    }
+    
+    private void apply(ChangeLogEntry entry) {
+        if (ChangeLogEntry.TASK.equals(entry.getEntityType())) {
+            evict(CacheConfig.TASK, entry.getEntityId());
+        } else if ("BULK".equals(entry.getChangeType())) {
+            // Set-based writes name only the project, so whatever of it is cached goes
+            evictTasksOf(entry.getEntityId());
+        } else {
+            evict(CacheConfig.PROJECTS, "all");
+            evict(CacheConfig.PROJECT, entry.getEntityId());
+            if (ChangeType.DELETED.name().equals(entry.getChangeType())) {
+                // Purged tasks are not logged one by one; the project's deletion stands for them
+                evictTasksOf(entry.getEntityId());
+            }
+        }
+    }
+    
+    private void evictTasksOf(UUID projectId) {
+        if (cacheManager.getCache(CacheConfig.TASK) instanceof CaffeineCache cache) {
+            cache.getNativeCache().asMap().values().removeIf(value -> value instanceof Task task && projectId.equals(task.getProjectId()));
+        }
+    }
+    
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
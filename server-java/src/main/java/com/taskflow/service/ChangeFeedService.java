@@ -0,0 +1,294 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.ChangeEventResponse;
+import com.taskflow.model.ChangeLogEntry;
+import com.taskflow.repository.ChangeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams committed changes from {@code change_log} to Server-Sent Events subscribers.
+ * <p>
+ * A single poller reads the log and fans rows out to every subscriber's bounded queue; each
+ * subscriber is drained by its own virtual thread, so idle connections hold no platform thread
+ * and a slow client only ever blocks itself. Sequence ids are drawn just before commit, but a
+ * transaction can still become visible after one with a higher id, so the poller stays one
+ * round behind the highest id it has seen: a row is sent only once the next poll confirms
+ * nothing below it is still arriving. Every node reads the same log, so clients may resume on
+ * any node with {@code Last-Event-ID}.
+ * <p>
+ * A subscriber whose queue fills up is sent what it has buffered and then closed; reconnecting
+ * with its last event id replays the rest from the log.
+ */
+@Slf4j
+@Service
+public class ChangeFeedService {
+    
+    private static final int POLL_BATCH_SIZE = 1000;
+    private static final Object HEARTBEAT = new Object();
+    private static final long RECONNECT_DELAY_MS = 3000;
+    
+    private final ChangeLogRepository changeLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMs;
+    private final int replayLimit;
+    private final Duration retention;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Highest sequence id handed to subscribers, and the highest id seen by the last poll
+    private volatile long broadcastUpTo;
+    private long seenUpTo;
+    private volatile boolean ready;
+    
+    public ChangeFeedService(
+            ChangeLogRepository changeLogRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${taskflow.changes.buffer-size:1000}") int bufferSize,
+            @Value("${taskflow.changes.max-subscribers:10000}") int maxSubscribers,
+            @Value("${taskflow.changes.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${taskflow.changes.replay-limit:10000}") int replayLimit,
+            @Value("${taskflow.changes.retention:7d}") Duration retention
+    ) {
+        this.changeLogRepository = changeLogRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.replayLimit = replayLimit;
+        this.retention = retention;
+    }
+    
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+    
+    /**
+     * Opens a stream of changes, optionally limited to one project and resumed after
+     * {@code lastEventId}. Returns null when the feed is not ready or is at its subscriber limit.
+     */
+    public SseEmitter subscribe(UUID projectId, Long lastEventId) {
+        if (!ready || subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        Subscriber subscriber = new Subscriber(new SseEmitter(emitterTimeoutMs), projectId);
+        subscribers.add(subscriber);
+        // Read after registering: anything above this id reaches the subscriber's queue
+        long replayUpTo = broadcastUpTo;
+        // A client ahead of this node (it was last served by another one) just skips what it has seen
+        long resumeAfter = lastEventId != null ? lastEventId : replayUpTo;
+        
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.thread = Thread.ofVirtual()
+                .name("change-feed-subscriber")
+                .start(() -> subscriber.run(resumeAfter, replayUpTo));
+        return emitter;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        seenUpTo = changeLogRepository.findMaxId();
+        broadcastUpTo = seenUpTo;
+        ready = true;
+        log.info("✓ Change feed starting after sequence {}", seenUpTo);
+    }
+    
+    @Scheduled(
+        initialDelayString = "${taskflow.changes.poll-interval-ms:250}",
+        fixedDelayString = "${taskflow.changes.poll-interval-ms:250}"
+    )
+    public void poll() {
+        if (!ready) {
+            return;
+        }
+        try {
+            if (subscribers.isEmpty()) {
+                broadcastUpTo = seenUpTo;
+                seenUpTo = Math.max(seenUpTo, changeLogRepository.findMaxId());
+                return;
+            }
+            
+            long confirmedUpTo = seenUpTo;
+            List<ChangeLogEntry> rows = changeLogRepository.findAfter(broadcastUpTo, PageRequest.of(0, POLL_BATCH_SIZE));
+            List<ChangeLogEntry> confirmed = rows.stream().filter(row -> row.getId() <= confirmedUpTo).toList();
+            if (!rows.isEmpty()) {
+                seenUpTo = Math.max(seenUpTo, rows.get(rows.size() - 1).getId());
+            }
+            // A full page may stop short of confirmedUpTo; the rest is picked up next round
+            boolean truncated = rows.size() == POLL_BATCH_SIZE && confirmed.size() == rows.size();
+            // Published before the rows are offered, so a subscriber registering meanwhile replays them instead
+            broadcastUpTo = truncated ? confirmed.get(confirmed.size() - 1).getId() : Math.max(broadcastUpTo, confirmedUpTo);
+            
+            for (ChangeLogEntry row : confirmed) {
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.matches(row)) {
+                        subscriber.offer(row);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Change feed poll failed", e);
+        }
+    }
+    
+    @Scheduled(
+        initialDelayString = "${taskflow.changes.heartbeat-interval-ms:15000}",
+        fixedDelayString = "${taskflow.changes.heartbeat-interval-ms:15000}"
+    )
+    public void heartbeat() {
+        // Keeps proxies from closing idle streams and surfaces dead connections as send failures
+        for (Subscriber subscriber : subscribers) {
+            subscriber.queue.offer(HEARTBEAT);
+        }
+    }
+    
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 60_000)
+    public void prune() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+            Integer removed = transactionTemplate.execute(status -> changeLogRepository.deleteRecordedBefore(cutoff));
+            if (removed != null && removed > 0) {
+                log.info("Pruned {} change log row(s) older than {}", removed, cutoff);
+            }
+        } catch (Exception e) {
+            log.error("Change log prune failed", e);
+        }
+    }
+    
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final UUID projectId;
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(bufferSize);
+        private volatile boolean overflowed;
+        private volatile Thread thread;
+        private long lastSentId;
+        
+        private Subscriber(SseEmitter emitter, UUID projectId) {
+            this.emitter = emitter;
+            this.projectId = projectId;
+        }
+        
+        private boolean matches(ChangeLogEntry row) {
+            return projectId == null
+                    || projectId.equals(row.getProjectId())
+                    || projectId.equals(row.getPreviousProjectId());
+        }
+        
+        private void offer(ChangeLogEntry row) {
+            if (!overflowed && !queue.offer(row)) {
+                overflowed = true;
+            }
+        }
+        
+        private void run(long resumeAfter, long replayUpTo) {
+            try {
+                emitter.send(SseEmitter.event().comment("connected").reconnectTime(RECONNECT_DELAY_MS));
+                lastSentId = resumeAfter;
+                replay(resumeAfter, replayUpTo);
+                while (true) {
+                    Object item = queue.take();
+                    if (item == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        send((ChangeLogEntry) item);
+                    }
+                    if (overflowed && queue.isEmpty()) {
+                        emitter.send(SseEmitter.event().name("overflow").data("reconnect to resume"));
+                        emitter.complete();
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                log.debug("Change feed subscriber closed: {}", e.getMessage());
+            } catch (Exception e) {
+                log.warn("Change feed subscriber failed", e);
+                emitter.completeWithError(e);
+            } finally {
+                subscribers.remove(this);
+            }
+        }
+        
+        private void replay(long after, long upTo) throws IOException {
+            if (after >= upTo) {
+                return;
+            }
+            long oldest = changeLogRepository.findMinId();
+            if (oldest == 0 || oldest > after + 1) {
+                // Rows after the client's position may have been pruned, so a gap-free replay is not possible
+                resync(upTo);
+                return;
+            }
+            int replayed = 0;
+            long cursor = after;
+            while (cursor < upTo) {
+                List<ChangeLogEntry> rows = projectId == null
+                        ? changeLogRepository.findBetween(cursor, upTo, PageRequest.of(0, POLL_BATCH_SIZE))
+                        : changeLogRepository.findBetweenForProject(cursor, upTo, projectId, PageRequest.of(0, POLL_BATCH_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                if (replayed + rows.size() > replayLimit) {
+                    resync(upTo);
+                    return;
+                }
+                for (ChangeLogEntry row : rows) {
+                    send(row);
+                }
+                replayed += rows.size();
+                cursor = rows.get(rows.size() - 1).getId();
+            }
+            lastSentId = Math.max(lastSentId, upTo);
+        }
+        
+        // Tells the client to reload its state, then continues live from upTo
+        private void resync(long upTo) throws IOException {
+            emitter.send(SseEmitter.event().id(Long.toString(upTo)).name("resync").data("reload state"));
+            lastSentId = upTo;
+        }
+        
+        private void send(ChangeLogEntry row) throws IOException {
+            if (row.getId() <= lastSentId) {
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(row.getId()))
+                    .name(row.getEntityType().toLowerCase(Locale.ROOT))
+                    .data(ChangeEventResponse.of(row), MediaType.APPLICATION_JSON));
+            lastSentId = row.getId();
+        }
+        
+        private void close() {
+            subscribers.remove(this);
+            Thread drain = thread;
+            if (drain != null) {
+                drain.interrupt();
+            }
+        }
+    }
+}
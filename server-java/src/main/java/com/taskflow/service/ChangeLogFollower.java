@@ -0,0 +1,12 @@
+package com.taskflow.service;
+
+/**
+ * In-memory state that follows writes made on other nodes by polling {@code change_log}.
+ * {@link VersionTracker} polls every follower before it publishes remote versions, so a response
+ * carrying a version ETag is never built from state that has not seen that version's writes.
+ * Polls must be idempotent, as each follower also polls on its own schedule.
+ */
+public interface ChangeLogFollower {
+    
+    void poll();
+}
@@ -0,0 +1,117 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.event.ChangeType;
+import com.taskflow.event.ProjectChangedEvent;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TasksBulkChangedEvent;
+import com.taskflow.model.ChangeLogEntry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Appends every task and project change to {@code change_log}. Changes are collected for the
+ * transaction and inserted just before it commits, so a row's sequence id is drawn as close to
+ * commit as possible and ids appear in roughly the order their transactions become visible.
+ * Bulk imports are logged as one BULK row per project rather than one row per task.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeLogWriter {
+    
+    private record PendingChange(String entityType, String changeType, UUID entityId, UUID projectId,
+                                 UUID previousProjectId, Object entity) {
+    }
+    
+    private final ObjectMapper objectMapper;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            record(new PendingChange(ChangeLogEntry.TASK, event.getType().name(), event.getTaskId(),
+                event.getPreviousProjectId(), null, null));
+            return;
+        }
+        UUID projectId = event.getTask().getProjectId();
+        UUID previousProjectId = projectId.equals(event.getPreviousProjectId()) ? null : event.getPreviousProjectId();
+        record(new PendingChange(ChangeLogEntry.TASK, event.getType().name(), event.getTaskId(),
+            projectId, previousProjectId, event.getTask()));
+    }
+    
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        record(new PendingChange(ChangeLogEntry.PROJECT, event.getType().name(), event.getProjectId(),
+            event.getProjectId(), null, event.getProject()));
+    }
+    
+    @EventListener
+    public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+        for (UUID projectId : event.getProjectIds()) {
+            record(new PendingChange(ChangeLogEntry.PROJECT, "BULK", projectId, projectId, null, null));
+        }
+    }
+    
+    private void record(PendingChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entityManager.persist(toEntry(change));
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.add(change);
+    }
+    
+    private ChangeLogEntry toEntry(PendingChange change) {
+        ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setEntityType(change.entityType());
+        entry.setChangeType(change.changeType());
+        entry.setEntityId(change.entityId());
+        entry.setProjectId(change.projectId());
+        entry.setPreviousProjectId(change.previousProjectId());
+        entry.setRecordedAt(LocalDateTime.now());
+        if (change.entity() != null) {
+            try {
+                entry.setPayload(objectMapper.writeValueAsString(change.entity()));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize change to " + change.entityId(), e);
+            }
+        }
+        return entry;
+    }
+    
+    private final class PendingChanges implements TransactionSynchronization {
+        private final List<PendingChange> changes = new ArrayList<>();
+        
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Flush first so @PreUpdate timestamps are set before the entities are serialized
+            entityManager.flush();
+            for (PendingChange change : changes) {
+                entityManager.persist(toEntry(change));
+            }
+        }
+        
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeLogWriter.this);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskflow.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader: quoted fields may contain separators, doubled quotes and line breaks.
+ * Reads one record at a time so arbitrarily large files are never held in memory.
+ */
+final class CsvRecordReader {
+    
+    private final Reader reader;
+    private int pushedBack = -2;
+    private long recordNumber;
+    
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+    
+    long getRecordNumber() {
+        return recordNumber;
+    }
+    
+    /**
+     * @return the next record's fields, or null at end of input
+     */
+    String[] next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                if (!any && field.isEmpty() && fields.isEmpty()) {
+                    return null;
+                }
+                fields.add(field.toString());
+                break;
+            }
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                if (fields.isEmpty() && field.isEmpty()) {
+                    // Skip blank lines
+                    any = false;
+                    continue;
+                }
+                fields.add(field.toString());
+                break;
+            } else {
+                field.append((char) c);
+            }
+        }
+        
+        recordNumber++;
+        return fields.toArray(new String[0]);
+    }
+    
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+    
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
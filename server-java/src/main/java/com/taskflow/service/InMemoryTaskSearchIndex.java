@@ -0,0 +1,205 @@
+package com.taskflow.service;
+
+import com.taskflow.config.ReplicaRoutingDataSource;
+import com.taskflow.event.ChangeType;
+import com.taskflow.event.ProjectTasksPurgedEvent;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TasksBulkChangedEvent;
+import com.taskflow.model.Task;
+import com.taskflow.repository.TaskFilter;
+import com.taskflow.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-process inverted index for databases without full-text search (H2 on the local profile).
+ * <p>
+ * Terms are kept in a sorted map, so a prefix is a range scan over the term dictionary, and each
+ * term lists the tasks containing it with a weight (name occurrences count three times as much
+ * as description ones). A task's score is the sum of its weights over all matched terms, scaled
+ * by how rare each term is; exact term matches count double a prefix match. The index is built
+ * at startup and updated after each task write commits, so it only ever reflects committed rows.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "taskflow.search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTaskSearchIndex implements TaskSearchIndex {
+    
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    
+    private record Document(UUID projectId, String status, Integer priority, Set<String> terms) {
+    }
+    
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NavigableMap<String, Map<UUID, Integer>> postings = new TreeMap<>();
+    private final Map<UUID, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    public InMemoryTaskSearchIndex(TaskRepository taskRepository, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        ReplicaRoutingDataSource.runOnPrimary(() -> transactionTemplate.executeWithoutResult(status -> {
+            try (var tasks = taskRepository.streamTasks(null, null, false, 1000)) {
+                tasks.forEach(this::index);
+            }
+        }));
+        log.info("✓ Task search index built for {} task(s)", documents.size());
+    }
+    
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            remove(event.getTaskId());
+        } else {
+            index(event.getTask());
+        }
+    }
+    
+    @TransactionalEventListener
+    public void onProjectTasksPurged(ProjectTasksPurgedEvent event) {
+        event.getTaskIds().forEach(this::remove);
+    }
+    
+    // Bulk imports carry no rows, so the affected projects are re-read, from the primary since the
+    // import has only just committed
+    @TransactionalEventListener
+    public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+        ReplicaRoutingDataSource.runOnPrimary(() -> transactionTemplate.executeWithoutResult(status -> {
+            for (UUID projectId : event.getProjectIds()) {
+                taskRepository.findByProjectId(projectId).forEach(this::index);
+            }
+        }));
+    }
+    
+    @Override
+    public List<Task> search(List<String> terms, TaskFilter filter, int limit) {
+        List<UUID> ids;
+        lock.readLock().lock();
+        try {
+            ids = rank(terms, filter, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Task> tasks = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return ids.stream().map(tasks::get).filter(task -> task != null).toList();
+    }
+    
+    private List<UUID> rank(List<String> terms, TaskFilter filter, int limit) {
+        Map<UUID, Double> scores = null;
+        for (String term : terms) {
+            Map<UUID, Double> termScores = new HashMap<>();
+            Map<String, Map<UUID, Integer>> matches = postings.subMap(term, true, term + Character.MAX_VALUE, true);
+            for (Map.Entry<String, Map<UUID, Integer>> match : matches.entrySet()) {
+                double boost = match.getKey().equals(term) ? 2.0 : 1.0;
+                double idf = Math.log(1.0 + (double) documents.size() / match.getValue().size());
+                for (Map.Entry<UUID, Integer> posting : match.getValue().entrySet()) {
+                    if (scores == null || scores.containsKey(posting.getKey())) {
+                        termScores.merge(posting.getKey(), posting.getValue() * boost * idf, Double::sum);
+                    }
+                }
+            }
+            if (scores != null) {
+                // Every term must match: keep only tasks already matched by the earlier terms
+                for (Map.Entry<UUID, Double> entry : termScores.entrySet()) {
+                    entry.setValue(entry.getValue() + scores.get(entry.getKey()));
+                }
+            }
+            scores = termScores;
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+        if (scores == null) {
+            return List.of();
+        }
+        
+        Map<UUID, Double> ranked = scores;
+        return ranked.keySet().stream()
+                .filter(id -> matches(documents.get(id), filter))
+                .sorted(Comparator.comparing((UUID id) -> ranked.get(id)).reversed().thenComparing(Comparator.naturalOrder()))
+                .limit(limit)
+                .toList();
+    }
+    
+    private boolean matches(Document document, TaskFilter filter) {
+        return document != null
+                && (filter.getProjectId() == null || filter.getProjectId().equals(document.projectId()))
+                && filter.matchesStatus(document.status())
+                && filter.matchesPriority(document.priority());
+    }
+    
+    private void index(Task task) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : TaskSearchIndex.tokenize(task.getName())) {
+            weights.merge(term, NAME_WEIGHT, Integer::sum);
+        }
+        for (String term : TaskSearchIndex.tokenize(task.getDescription())) {
+            weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+        
+        lock.writeLock().lock();
+        try {
+            removeLocked(task.getId());
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(task.getId(), weight));
+            documents.put(task.getId(), new Document(task.getProjectId(), task.getStatus(), task.getPriority(), new HashSet<>(weights.keySet())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void remove(UUID taskId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void removeLocked(UUID taskId) {
+        Document document = documents.remove(taskId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Map<UUID, Integer> ids = postings.get(term);
+            if (ids != null) {
+                ids.remove(taskId);
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
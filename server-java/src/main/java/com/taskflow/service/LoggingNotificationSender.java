@@ -0,0 +1,20 @@
+package com.taskflow.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "taskflow.notifications.sender", havingValue = "log", matchIfMissing = true)
+public class LoggingNotificationSender implements NotificationSender {
+    
+    @Override
+    public void send(String recipient, List<TaskNotification> notifications) {
+        // One log call per digest rather than one per line
+        log.info("\n=== EMAIL NOTIFICATION ===\nTo: {}\nSubject: {}\n{}==========================",
+            recipient, NotificationMessages.subject(notifications), NotificationMessages.body(notifications));
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskflow.service;
+
+import com.taskflow.event.ChangeType;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Subject and body text shared by the notification senders.
+ */
+final class NotificationMessages {
+    
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+    
+    private NotificationMessages() {
+    }
+    
+    static String subject(List<TaskNotification> notifications) {
+        if (notifications.size() == 1) {
+            TaskNotification notification = notifications.get(0);
+            return (notification.getType() == ChangeType.CREATED ? "Task Assigned: " : "Task Updated: ")
+                + notification.getTaskName();
+        }
+        return notifications.size() + " task updates";
+    }
+    
+    static String body(List<TaskNotification> notifications) {
+        StringBuilder body = new StringBuilder(160 * notifications.size());
+        for (TaskNotification notification : notifications) {
+            boolean created = notification.getType() == ChangeType.CREATED;
+            body.append(created ? "You have been assigned to the task \"" : "You have been notified of an update to the task \"")
+                .append(notification.getTaskName()).append("\"\n")
+                .append("  Task ID: ").append(notification.getTaskId()).append('\n')
+                .append("  Priority: ").append(notification.getPriority()).append('\n')
+                .append("  Due Date: ").append(notification.getDueDate() != null
+                    ? DUE_DATE_FORMAT.format(notification.getDueDate())
+                    : "No due date").append('\n');
+            if (!created) {
+                body.append("  Status: ").append(notification.getStatus()).append('\n');
+            }
+        }
+        return body.toString();
+    }
+}
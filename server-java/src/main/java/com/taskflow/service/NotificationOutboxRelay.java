@@ -0,0 +1,128 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.event.NotificationsDeliveredEvent;
+import com.taskflow.model.NotificationOutbox;
+import com.taskflow.repository.NotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves outbox rows into the {@link NotificationService} queue.
+ * <p>
+ * Each poll claims up to {@code batch-size} due rows with {@code FOR UPDATE SKIP LOCKED} and
+ * pushes their {@code availableAt} forward by the lease, all in one short transaction; delivery
+ * happens after that commit, so no lock is held while mail goes out. Rows are deleted when the
+ * dispatcher reports them delivered. A row whose delivery failed, or whose node died, is
+ * claimed again after the lease expires, so delivery is at-least-once.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+    
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long leaseMs;
+    private final int maxAttempts;
+    
+    public NotificationOutboxRelay(
+            NotificationOutboxRepository outboxRepository,
+            NotificationService notificationService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${taskflow.notifications.outbox.batch-size:200}") int batchSize,
+            @Value("${taskflow.notifications.outbox.lease-ms:60000}") long leaseMs,
+            @Value("${taskflow.notifications.outbox.max-attempts:10}") int maxAttempts
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.notificationService = notificationService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.leaseMs = leaseMs;
+        this.maxAttempts = maxAttempts;
+    }
+    
+    @Scheduled(
+        initialDelayString = "${taskflow.notifications.outbox.poll-interval-ms:250}",
+        fixedDelayString = "${taskflow.notifications.outbox.poll-interval-ms:250}"
+    )
+    public void relay() {
+        try {
+            int claimed;
+            do {
+                // Only claim what the queue can take, so the overflow policy never applies to outbox rows.
+                int limit = Math.min(batchSize, notificationService.remainingCapacity());
+                if (limit == 0) {
+                    return;
+                }
+                claimed = claimAndSubmit(limit);
+            } while (claimed == batchSize);
+        } catch (Exception e) {
+            log.error("Notification outbox relay failed", e);
+        }
+    }
+    
+    @EventListener
+    public void onDelivered(NotificationsDeliveredEvent event) {
+        List<UUID> ids = event.getDedupKeys().stream().map(UUID::fromString).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteByIds(ids));
+        } catch (Exception e) {
+            // The rows come back after their lease and are then skipped as already delivered.
+            log.warn("Could not remove {} delivered outbox row(s): {}", ids.size(), e.getMessage());
+        }
+    }
+    
+    private int claimAndSubmit(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(leaseMs, ChronoUnit.MILLIS);
+        List<NotificationOutbox> rows = transactionTemplate.execute(status -> {
+            List<NotificationOutbox> claimed = outboxRepository.findClaimable(now, PageRequest.of(0, limit));
+            for (NotificationOutbox row : claimed) {
+                row.setAttempts(row.getAttempts() + 1);
+                row.setAvailableAt(leaseUntil);
+            }
+            return claimed;
+        });
+        
+        List<TaskNotification> notifications = new ArrayList<>(rows.size());
+        List<UUID> abandoned = new ArrayList<>();
+        for (NotificationOutbox row : rows) {
+            if (row.getAttempts() > maxAttempts) {
+                log.error("Giving up on notification {} for task {} after {} attempts", row.getId(), row.getTaskId(), maxAttempts);
+                abandoned.add(row.getId());
+                continue;
+            }
+            try {
+                TaskNotification notification = objectMapper.readValue(row.getPayload(), TaskNotification.class);
+                notification.setDedupKey(row.getId().toString());
+                notifications.add(notification);
+            } catch (IOException e) {
+                log.error("Discarding unreadable outbox row {}", row.getId(), e);
+                abandoned.add(row.getId());
+            }
+        }
+        if (!abandoned.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteByIds(abandoned));
+        }
+        notificationService.submit(notifications);
+        return rows.size();
+    }
+}
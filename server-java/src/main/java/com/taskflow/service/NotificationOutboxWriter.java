@@ -0,0 +1,40 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.event.ChangeType;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.model.NotificationOutbox;
+import com.taskflow.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records a notification for every created or updated task. This is a plain
+ * {@code @EventListener}, so it runs inside the transaction that published the event and the
+ * outbox row commits or rolls back together with the task change.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxWriter {
+    
+    private final NotificationOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            return;
+        }
+        TaskNotification notification = TaskNotification.of(event.getType(), event.getTask());
+        NotificationOutbox entry = new NotificationOutbox();
+        entry.setTaskId(notification.getTaskId());
+        try {
+            entry.setPayload(objectMapper.writeValueAsString(notification));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize notification for task " + notification.getTaskId(), e);
+        }
+        outboxRepository.save(entry);
+    }
+}
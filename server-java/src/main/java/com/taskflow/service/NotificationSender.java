@@ -0,0 +1,12 @@
+package com.taskflow.service;
+
+import java.util.List;
+
+/**
+ * Delivers one digest to one recipient. Implementations are called from the notification
+ * delivery workers and may block; a thrown exception marks the whole digest as failed.
+ */
+public interface NotificationSender {
+    
+    void send(String recipient, List<TaskNotification> notifications) throws Exception;
+}
@@ -1,90 +1,385 @@
 package com.taskflow.service;
 
-import com.taskflow.model.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.dto.NotificationStatsResponse;
+import com.taskflow.event.ChangeType;
+import com.taskflow.event.NotificationsDeliveredEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.time.format.DateTimeFormatter;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Queues task notifications in a bounded ring buffer and delivers them in per-assignee digests.
+ * <p>
+ * A single dispatcher thread takes up to {@code max-batch-size} notifications at a time, waiting
+ * at most {@code linger-ms} for a batch to fill. It groups them by assignee and collapses repeated
+ * changes to the same task, then hands each digest to the {@link NotificationSender} on a small
+ * delivery pool. That pool also runs work on the dispatcher when it is saturated, so a slow
+ * sender fills the queue and the overflow policy takes over instead of the heap growing.
+ * <p>
+ * Notifications arrive from {@link NotificationOutboxRelay}. After a digest is sent a
+ * {@link NotificationsDeliveredEvent} reports its dedup keys so the outbox rows can be removed;
+ * keys delivered recently are remembered so a redelivered row is not sent twice.
+ */
 @Slf4j
 @Service
 public class NotificationService {
     
-    private ExecutorService executorService;
-    private static final int POOL_SIZE = 4;
+    public enum OverflowPolicy {
+        // Wait up to block-timeout-ms for space, then drop
+        BLOCK,
+        DROP_OLDEST,
+        // Append to a local file that is replayed once the queue drains
+        SPILL
+    }
+    
+    private static final long IDLE_POLL_MS = 500;
+    private static final int DELIVERED_KEYS_RETAINED = 10_000;
+    
+    private final NotificationSender sender;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArrayBlockingQueue<TaskNotification> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
+    private final int maxBatchSize;
+    private final long lingerMs;
+    private final int workers;
+    private final Path spillDirectory;
+    private final MeterRegistry meterRegistry;
+    
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedNotifications = new LongAdder();
+    private final LongAdder latencyTotalMs = new LongAdder();
+    private final AtomicLong maxLatencyMs = new AtomicLong();
+    private final AtomicInteger lastBatchSize = new AtomicInteger();
+    private Timer latencyTimer;
+    private Timer sendTimer;
+    private DistributionSummary batchSizeSummary;
+    private final Set<String> deliveredKeys = Collections.synchronizedSet(Collections.newSetFromMap(
+        new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > DELIVERED_KEYS_RETAINED;
+            }
+        }));
+    
+    private ThreadPoolExecutor deliveryPool;
+    private NotificationSpillFile spillFile;
+    private Thread dispatcher;
+    private volatile boolean running;
+    
+    public NotificationService(
+            NotificationSender sender,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.notifications.queue-capacity:10000}") int queueCapacity,
+            @Value("${taskflow.notifications.overflow-policy:BLOCK}") String overflowPolicy,
+            @Value("${taskflow.notifications.block-timeout-ms:2000}") long blockTimeoutMs,
+            @Value("${taskflow.notifications.max-batch-size:100}") int maxBatchSize,
+            @Value("${taskflow.notifications.linger-ms:50}") long lingerMs,
+            @Value("${taskflow.notifications.workers:4}") int workers,
+            @Value("${taskflow.notifications.spill-dir:${java.io.tmpdir}/taskflow-notifications}") String spillDirectory
+    ) {
+        this.sender = sender;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.toUpperCase(Locale.ROOT));
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerMs = lingerMs;
+        this.workers = workers;
+        this.spillDirectory = Path.of(spillDirectory);
+        this.meterRegistry = meterRegistry;
+    }
     
     @PostConstruct
-    public void init() {
-        executorService = Executors.newFixedThreadPool(POOL_SIZE);
-        log.info("✓ Email notification worker pool initialized with {}/{} workers", POOL_SIZE, POOL_SIZE);
+    public void init() throws IOException {
+        deliveryPool = new ThreadPoolExecutor(
+            workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers * 2),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        if (overflowPolicy == OverflowPolicy.SPILL) {
+            spillFile = new NotificationSpillFile(spillDirectory, objectMapper);
+        }
+        registerMetrics();
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "notification-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        log.info("✓ Email notification dispatcher initialized: queue {}, overflow {}, {} delivery workers",
+            queue.remainingCapacity(), overflowPolicy, workers);
     }
     
     @PreDestroy
     public void shutdown() {
-        if (executorService != null) {
-            executorService.shutdown();
+        running = false;
+        try {
+            // The dispatcher keeps going until the queue is empty.
+            dispatcher.join(TimeUnit.SECONDS.toMillis(10));
+            if (dispatcher.isAlive()) {
+                dispatcher.interrupt();
+                log.warn("Email notification dispatcher forced shutdown with {} queued", queue.size());
+            }
+            deliveryPool.shutdown();
+            if (!deliveryPool.awaitTermination(10, TimeUnit.SECONDS)) {
+                deliveryPool.shutdownNow();
+                log.warn("Email notification service forced shutdown after timeout");
+            } else {
+                log.info("Email notification service shut down gracefully");
+            }
+            if (spillFile != null) {
+                spillFile.close();
+            }
+        } catch (InterruptedException e) {
+            deliveryPool.shutdownNow();
+            Thread.currentThread().interrupt();
+            log.error("Email notification service shutdown interrupted");
+        } catch (IOException e) {
+            log.warn("Could not close notification spill file", e);
+        }
+    }
+    
+    public void submit(List<TaskNotification> notifications) {
+        notifications.forEach(this::enqueue);
+    }
+    
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+    
+    public NotificationStatsResponse getStats() {
+        long batchCount = batches.sum();
+        long deliveredCount = delivered.sum() + failed.sum();
+        return new NotificationStatsResponse(
+            overflowPolicy.name(),
+            queue.size(),
+            queue.size() + queue.remainingCapacity(),
+            spillFile != null ? spillFile.getBacklog() : 0,
+            enqueued.sum(),
+            dropped.sum(),
+            spilled.sum(),
+            delivered.sum(),
+            failed.sum(),
+            batchCount,
+            batchCount > 0 ? (double) batchedNotifications.sum() / batchCount : 0,
+            lastBatchSize.get(),
+            deliveredCount > 0 ? (double) latencyTotalMs.sum() / deliveredCount : 0,
+            maxLatencyMs.get()
+        );
+    }
+    
+    // The same figures as getStats(), as meters for Prometheus
+    private void registerMetrics() {
+        Gauge.builder("taskflow.notifications.queue.size", queue, ArrayBlockingQueue::size)
+                .description("Notifications waiting for the dispatcher")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.notifications.queue.remaining", queue, ArrayBlockingQueue::remainingCapacity)
+                .description("Free slots in the notification queue")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.notifications.spill.backlog", this, service -> service.spillFile != null ? service.spillFile.getBacklog() : 0)
+                .description("Notifications spilled to disk and not yet replayed")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.notifications.workers.active", deliveryPool, ThreadPoolExecutor::getActiveCount)
+                .description("Delivery workers currently sending")
+                .register(meterRegistry);
+        FunctionCounter.builder("taskflow.notifications.enqueued", enqueued, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("taskflow.notifications.dropped", dropped, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("taskflow.notifications.spilled", spilled, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("taskflow.notifications.delivered", delivered, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("taskflow.notifications.failed", failed, LongAdder::sum).register(meterRegistry);
+        latencyTimer = Timer.builder("taskflow.notifications.latency")
+                .description("Time from enqueue to the end of the delivery attempt")
+                .register(meterRegistry);
+        sendTimer = Timer.builder("taskflow.notifications.send")
+                .description("Time spent in the notification sender per digest")
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("taskflow.notifications.batch.size")
+                .description("Notifications taken per dispatcher batch")
+                .register(meterRegistry);
+    }
+    
+    private void enqueue(TaskNotification notification) {
+        enqueued.increment();
+        if (queue.offer(notification)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(notification, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        drop(notification);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    drop(notification);
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(notification)) {
+                    TaskNotification evicted = queue.poll();
+                    if (evicted != null) {
+                        drop(evicted);
+                    }
+                }
+            }
+            case SPILL -> {
+                try {
+                    spillFile.append(notification);
+                    spilled.increment();
+                } catch (IOException e) {
+                    log.error("Could not spill notification for task {}", notification.getTaskId(), e);
+                    drop(notification);
+                }
+            }
+        }
+    }
+    
+    private void drop(TaskNotification notification) {
+        dropped.increment();
+        log.warn("Notification queue full, dropped {} notification for task {}", notification.getType(), notification.getTaskId());
+    }
+    
+    private void dispatchLoop() {
+        while (running || !queue.isEmpty()) {
             try {
-                if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
-                    executorService.shutdownNow();
-                    log.warn("Email notification service forced shutdown after timeout");
-                } else {
-                    log.info("Email notification service shut down gracefully");
+                TaskNotification first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpilled();
+                    continue;
+                }
+                List<TaskNotification> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                while (batch.size() < maxBatchSize) {
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    TaskNotification next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
                 }
+                dispatch(batch);
             } catch (InterruptedException e) {
-                executorService.shutdownNow();
-                Thread.currentThread().interrupt();
-                log.error("Email notification service shutdown interrupted");
+                if (!running) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.error("Notification dispatch failed", e);
             }
         }
     }
     
-    public void sendTaskCreatedNotification(Task task) {
-        executorService.submit(() -> {
-            try {
-                String formattedDueDate = task.getDueDate() != null 
-                    ? task.getDueDate().format(DateTimeFormatter.ofPattern("MM/dd/yyyy"))
-                    : "No due date";
-                
-                log.info("\n=== EMAIL NOTIFICATION (Worker Thread) ===");
-                log.info("Type: TASK CREATED");
-                log.info("To: {}", task.getAssignee());
-                log.info("Subject: Task Assigned: {}", task.getName());
-                log.info("Task ID: {}", task.getId());
-                log.info("Priority: {}", task.getPriority());
-                log.info("Due Date: {}", formattedDueDate);
-                log.info("Message: You have been assigned to the task \"{}\"", task.getName());
-                log.info("==========================================\n");
-            } catch (Exception e) {
-                log.error("Error sending email notification", e);
+    private void replaySpilled() {
+        if (spillFile == null || !running) {
+            return;
+        }
+        try {
+            if (spillFile.hasPending()) {
+                spillFile.drain(maxBatchSize, this::dispatch);
             }
-        });
+        } catch (IOException e) {
+            log.error("Could not replay spilled notifications", e);
+        }
     }
     
-    public void sendTaskUpdatedNotification(Task task) {
-        executorService.submit(() -> {
-            try {
-                String formattedDueDate = task.getDueDate() != null 
-                    ? task.getDueDate().format(DateTimeFormatter.ofPattern("MM/dd/yyyy"))
-                    : "No due date";
-                
-                log.info("\n=== EMAIL NOTIFICATION (Worker Thread) ===");
-                log.info("Type: TASK UPDATED");
-                log.info("To: {}", task.getAssignee());
-                log.info("Subject: Task Updated: {}", task.getName());
-                log.info("Task ID: {}", task.getId());
-                log.info("Priority: {}", task.getPriority());
-                log.info("Due Date: {}", formattedDueDate);
-                log.info("Status: {}", task.getStatus());
-                log.info("Message: You have been notified of an update to the task \"{}\"", task.getName());
-                log.info("==========================================\n");
-            } catch (Exception e) {
-                log.error("Error sending email notification", e);
+    private void dispatch(List<TaskNotification> batch) {
+        batches.increment();
+        batchedNotifications.add(batch.size());
+        lastBatchSize.set(batch.size());
+        batchSizeSummary.record(batch.size());
+        
+        Map<String, Map<UUID, TaskNotification>> byAssignee = new LinkedHashMap<>();
+        Map<String, List<String>> keysByAssignee = new LinkedHashMap<>();
+        List<String> duplicates = new ArrayList<>();
+        for (TaskNotification notification : batch) {
+            String key = notification.getDedupKey();
+            if (key != null && deliveredKeys.contains(key)) {
+                duplicates.add(key);
+                continue;
             }
+            // Collect keys before merging, since coalescing keeps only one notification per task
+            if (key != null) {
+                keysByAssignee.computeIfAbsent(notification.getAssignee(), assignee -> new ArrayList<>()).add(key);
+            }
+            byAssignee
+                .computeIfAbsent(notification.getAssignee(), assignee -> new LinkedHashMap<>())
+                .merge(notification.getTaskId(), notification, NotificationService::coalesce);
+        }
+        if (!duplicates.isEmpty()) {
+            eventPublisher.publishEvent(new NotificationsDeliveredEvent(duplicates));
+        }
+        byAssignee.forEach((assignee, notifications) -> {
+            List<String> keys = keysByAssignee.getOrDefault(assignee, List.of());
+            deliveryPool.execute(() -> deliver(assignee, new ArrayList<>(notifications.values()), keys));
         });
     }
+    
+    // Later changes replace earlier ones, but a task created within the batch is still announced as created.
+    private static TaskNotification coalesce(TaskNotification earlier, TaskNotification later) {
+        if (earlier.getType() == ChangeType.CREATED) {
+            later.setType(ChangeType.CREATED);
+        }
+        later.setEnqueuedAt(Math.min(earlier.getEnqueuedAt(), later.getEnqueuedAt()));
+        return later;
+    }
+    
+    private void deliver(String assignee, List<TaskNotification> notifications, List<String> keys) {
+        long started = System.nanoTime();
+        try {
+            sender.send(assignee, notifications);
+            delivered.add(notifications.size());
+            if (!keys.isEmpty()) {
+                deliveredKeys.addAll(keys);
+                eventPublisher.publishEvent(new NotificationsDeliveredEvent(keys));
+            }
+        } catch (Exception e) {
+            failed.add(notifications.size());
+            log.error("Error sending email notification to {}", assignee, e);
+        }
+        sendTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        long now = System.currentTimeMillis();
+        for (TaskNotification notification : notifications) {
+            long latency = now - notification.getEnqueuedAt();
+            latencyTotalMs.add(latency);
+            maxLatencyMs.accumulateAndGet(latency, Math::max);
+            latencyTimer.record(latency, TimeUnit.MILLISECONDS);
+        }
+    }
 }
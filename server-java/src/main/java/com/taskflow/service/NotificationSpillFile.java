@@ -0,0 +1,118 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Overflow storage for the notification queue: one JSON notification per line. Writers append
+ * to {@code notifications.spill}; the dispatcher renames it to a {@code .draining} file and
+ * replays that once the queue has room. Files left over from a previous run are replayed too.
+ */
+@Slf4j
+final class NotificationSpillFile {
+    
+    private static final String ACTIVE_FILE = "notifications.spill";
+    private static final String DRAINING_SUFFIX = ".draining";
+    
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong backlog = new AtomicLong();
+    private BufferedWriter writer;
+    
+    NotificationSpillFile(Path directory, ObjectMapper objectMapper) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.objectMapper = objectMapper;
+    }
+    
+    synchronized void append(TaskNotification notification) throws IOException {
+        if (writer == null) {
+            writer = Files.newBufferedWriter(directory.resolve(ACTIVE_FILE), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        writer.write(objectMapper.writeValueAsString(notification));
+        writer.write('\n');
+        writer.flush();
+        backlog.incrementAndGet();
+    }
+    
+    long getBacklog() {
+        return backlog.get();
+    }
+    
+    boolean hasPending() throws IOException {
+        return backlog.get() > 0 || Files.exists(directory.resolve(ACTIVE_FILE)) || !pendingFiles().isEmpty();
+    }
+    
+    /**
+     * Replays spilled notifications in chunks of {@code chunkSize}, oldest file first.
+     */
+    void drain(int chunkSize, Consumer<List<TaskNotification>> consumer) throws IOException {
+        rotate();
+        for (Path file : pendingFiles()) {
+            List<TaskNotification> chunk = new ArrayList<>(chunkSize);
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        chunk.add(objectMapper.readValue(line, TaskNotification.class));
+                    } catch (IOException e) {
+                        log.warn("Skipping unreadable spilled notification in {}", file.getFileName());
+                    }
+                    if (chunk.size() == chunkSize) {
+                        consumer.accept(chunk);
+                        backlog.updateAndGet(n -> Math.max(0, n - chunkSize));
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                int size = chunk.size();
+                consumer.accept(chunk);
+                backlog.updateAndGet(n -> Math.max(0, n - size));
+            }
+            Files.delete(file);
+        }
+    }
+    
+    synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+    
+    private synchronized void rotate() throws IOException {
+        close();
+        Path active = directory.resolve(ACTIVE_FILE);
+        if (Files.exists(active)) {
+            // Zero-padded so that name order is age order, also across restarts
+            String name = String.format("notifications-%013d-%d%s", System.currentTimeMillis(), System.nanoTime(), DRAINING_SUFFIX);
+            Files.move(active, directory.resolve(name));
+        }
+    }
+    
+    private List<Path> pendingFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(DRAINING_SUFFIX))
+                .sorted()
+                .toList();
+        }
+    }
+}
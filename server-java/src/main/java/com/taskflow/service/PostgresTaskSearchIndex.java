@@ -0,0 +1,84 @@
+package com.taskflow.service;
+
+import com.taskflow.model.Task;
+import com.taskflow.repository.TaskFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Searches a stored {@code tsvector} column through its GIN index. The column is generated by
+ * PostgreSQL from name and description, so every write path, including COPY imports, keeps it
+ * current without application code.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "taskflow.search.engine", havingValue = "postgres")
+public class PostgresTaskSearchIndex implements TaskSearchIndex {
+    
+    private static final String COLUMNS =
+        "t.id, t.project_id, t.name, t.description, t.priority, t.due_date, t.assignee, t.status, t.created_at, t.updated_at, t.version";
+    
+    private final DataSource dataSource;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public PostgresTaskSearchIndex(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+    
+    // Runs after Hibernate's schema update, which creates the tasks table on a fresh database.
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSearchIndex() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/task-search-postgresql.sql")).execute(dataSource);
+        log.info("✓ Task search index ready");
+    }
+    
+    @Override
+    public List<Task> search(List<String> terms, TaskFilter filter, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        List<String> predicates = new ArrayList<>();
+        predicates.add("t.search_vector @@ to_tsquery('simple', :query)");
+        // Terms are letters and digits only, so the tsquery syntax is ours alone
+        params.put("query", terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & ")));
+        if (filter.getProjectId() != null) {
+            predicates.add("t.project_id = :projectId");
+            params.put("projectId", filter.getProjectId());
+        }
+        if (filter.hasStatuses()) {
+            List<Short> statusCodes = filter.statusCodes();
+            predicates.add(statusCodes.isEmpty() ? "1 = 0" : "t.status IN (:statuses)");
+            if (!statusCodes.isEmpty()) {
+                params.put("statuses", statusCodes);
+            }
+        }
+        if (filter.hasPriorities()) {
+            predicates.add("t.priority IN (:priorities)");
+            params.put("priorities", filter.priorityCodes());
+        }
+        
+        String sql = "SELECT " + COLUMNS + " FROM tasks t WHERE " + String.join(" AND ", predicates)
+                + " ORDER BY ts_rank_cd(t.search_vector, to_tsquery('simple', :query)) DESC, t.id"
+                + " LIMIT " + limit;
+        Query query = entityManager.createNativeQuery(sql, Task.class);
+        params.forEach(query::setParameter);
+        @SuppressWarnings("unchecked")
+        List<Task> tasks = query.getResultList();
+        return tasks;
+    }
+}
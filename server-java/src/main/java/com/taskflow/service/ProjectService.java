@@ -1,34 +1,73 @@
 package com.taskflow.service;
 
+import com.taskflow.config.CacheConfig;
+import com.taskflow.config.ReplicaRoutingDataSource;
 import com.taskflow.dto.CreateProjectRequest;
 import com.taskflow.dto.ProjectStatsResponse;
+import com.taskflow.event.ProjectChangedEvent;
 import com.taskflow.model.Project;
+import com.taskflow.repository.ProjectField;
 import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.ProjectStatusCount;
+import com.taskflow.repository.ProjectView;
 import com.taskflow.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
     
+    // Keeps IN lists well below driver and planner limits for very large projectIds requests.
+    private static final int STATS_CHUNK_SIZE = 500;
+    
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
+    private final ProjectStatsStore projectStatsStore;
+    private final ProjectTaskPurger projectTaskPurger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<CacheManager> cacheManager;
     
+    @Cacheable(cacheNames = CacheConfig.PROJECTS, key = "'all'")
     @Transactional(readOnly = true)
     public List<Project> getAllProjects() {
-        return projectRepository.findAllByOrderByNameAsc();
+        return readForCache(projectRepository::findAllByOrderByNameAsc);
     }
     
+    // Not cached: the column choice varies per request and the rows are cheap to select.
     @Transactional(readOnly = true)
-    public Optional<Project> getProjectById(String id) {
-        return projectRepository.findById(id);
+    public List<ProjectView> getAllProjects(Set<ProjectField> fields) {
+        return projectRepository.findAllViews(fields);
+    }
+    
+    @Cacheable(cacheNames = CacheConfig.PROJECT, key = "#id", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<Project> getProjectById(UUID id) {
+        return readForCache(() -> projectRepository.findById(id));
+    }
+    
+    // Cached results are read from the primary, as a lagging replica's would stay cached until the next write.
+    // Uncached reads may use a replica like any other read.
+    private <T> T readForCache(Supplier<T> read) {
+        return cacheManager.getIfAvailable() != null ? ReplicaRoutingDataSource.onPrimary(read) : read.get();
     }
     
     @Transactional
@@ -39,11 +78,13 @@ public class ProjectService {
         if (request.getColor() != null && !request.getColor().isEmpty()) {
             project.setColor(request.getColor());
         }
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(ProjectChangedEvent.created(savedProject));
+        return savedProject;
     }
     
     @Transactional
-    public Optional<Project> updateProject(String id, CreateProjectRequest request) {
+    public Optional<Project> updateProject(UUID id, CreateProjectRequest request) {
         return projectRepository.findById(id).map(project -> {
             if (request.getName() != null) {
                 project.setName(request.getName());
@@ -54,45 +95,73 @@ public class ProjectService {
             if (request.getColor() != null) {
                 project.setColor(request.getColor());
             }
-            return projectRepository.save(project);
+            Project savedProject = projectRepository.save(project);
+            eventPublisher.publishEvent(ProjectChangedEvent.updated(savedProject));
+            return savedProject;
         });
     }
     
+    // Large projects keep losing tasks in the background after this returns; see ProjectTaskPurger.
     @Transactional
-    public boolean deleteProject(String id) {
-        if (projectRepository.existsById(id)) {
-            projectRepository.deleteById(id);
-            return true;
+    public boolean deleteProject(UUID id) {
+        if (projectRepository.deleteProjectRow(id) == 0) {
+            return false;
         }
-        return false;
+        eventPublisher.publishEvent(ProjectChangedEvent.deleted(id));
+        projectTaskPurger.purge(id);
+        return true;
+    }
+    
+    // Served from the in-memory store once it has loaded; until then each repository call runs in its own read-only transaction.
+    public Map<UUID, ProjectStatsResponse> getProjectStatsBulk(List<UUID> projectIds) {
+        boolean inMemory = projectStatsStore.isReady();
+        return Timer.builder("taskflow.projects.stats")
+                .description("Bulk project stats lookups")
+                .tag("source", inMemory ? "memory" : "database")
+                .tag("scope", projectIds == null || projectIds.isEmpty() ? "all" : "selected")
+                .register(meterRegistry)
+                .record(() -> inMemory ? projectStatsStore.getStats(projectIds) : loadProjectStats(projectIds));
     }
     
     @Transactional(readOnly = true)
-    public Map<String, ProjectStatsResponse> getProjectStatsBulk(List<String> projectIds) {
-        List<String> idsToQuery;
+    public Map<UUID, ProjectStatsResponse> loadProjectStats(List<UUID> projectIds) {
+        Map<UUID, ProjectStatsResponse> stats = new HashMap<>();
+        
         if (projectIds == null || projectIds.isEmpty()) {
-            idsToQuery = taskRepository.findDistinctProjectIds();
-            List<Project> allProjects = projectRepository.findAll();
-            for (Project p : allProjects) {
-                if (!idsToQuery.contains(p.getId())) {
-                    idsToQuery.add(p.getId());
-                }
+            for (UUID projectId : projectRepository.findAllIds()) {
+                stats.put(projectId, emptyStats());
             }
-        } else {
-            idsToQuery = projectIds;
+            accumulate(stats, taskRepository.countByProjectAndStatus());
+            return stats;
         }
         
-        Map<String, ProjectStatsResponse> stats = new HashMap<>();
-        
-        for (String projectId : idsToQuery) {
-            Long total = taskRepository.countByProjectId(projectId);
-            Long completed = taskRepository.countCompletedByProjectId(projectId);
-            Long inProgress = taskRepository.countInProgressByProjectId(projectId);
-            Long pending = taskRepository.countPendingByProjectId(projectId);
-            
-            stats.put(projectId, new ProjectStatsResponse(total, completed, inProgress, pending));
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(projectIds));
+        for (UUID projectId : distinctIds) {
+            stats.put(projectId, emptyStats());
+        }
+        for (int from = 0; from < distinctIds.size(); from += STATS_CHUNK_SIZE) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + STATS_CHUNK_SIZE, distinctIds.size()));
+            accumulate(stats, taskRepository.countByProjectAndStatus(chunk));
         }
-        
         return stats;
     }
+    
+    private void accumulate(Map<UUID, ProjectStatsResponse> stats, List<ProjectStatusCount> rows) {
+        for (ProjectStatusCount row : rows) {
+            ProjectStatsResponse projectStats = stats.computeIfAbsent(row.getProjectId(), id -> emptyStats());
+            long count = row.getTaskCount();
+            projectStats.setTotalTasks(projectStats.getTotalTasks() + count);
+            if ("COMPLETED".equals(row.getStatus())) {
+                projectStats.setCompletedTasks(projectStats.getCompletedTasks() + count);
+            } else if ("IN_PROGRESS".equals(row.getStatus())) {
+                projectStats.setInProgressTasks(projectStats.getInProgressTasks() + count);
+            } else if ("PENDING".equals(row.getStatus())) {
+                projectStats.setPendingTasks(projectStats.getPendingTasks() + count);
+            }
+        }
+    }
+    
+    private static ProjectStatsResponse emptyStats() {
+        return new ProjectStatsResponse(0L, 0L, 0L, 0L);
+    }
 }
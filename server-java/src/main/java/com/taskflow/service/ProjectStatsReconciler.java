@@ -0,0 +1,141 @@
+package com.taskflow.service;
+
+import com.taskflow.config.ReplicaRoutingDataSource;
+import com.taskflow.dto.ProjectStatsResponse;
+import com.taskflow.event.TasksBulkChangedEvent;
+import com.taskflow.model.ChangeLogEntry;
+import com.taskflow.repository.ChangeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads {@link ProjectStatsStore} at startup, corrects it periodically, and refreshes the
+ * projects touched by writes that did not move its counters: set-based writes on this node and
+ * any task write on another node, which is picked up from {@code change_log} like the cache and
+ * filter index do.
+ */
+@Slf4j
+@Component
+public class ProjectStatsReconciler implements ChangeLogFollower {
+    
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(10);
+    private static final int RECENT_IDS_RETAINED = 100_000;
+    
+    private final ProjectService projectService;
+    private final ProjectStatsStore projectStatsStore;
+    private final ChangeLogRepository changeLogRepository;
+    private final Set<Long> appliedChangeIds = Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > RECENT_IDS_RETAINED;
+        }
+    }));
+    // Projects whose refresh was skipped because a local write raced it
+    private final Set<UUID> pendingProjectIds = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime lastPoll = LocalDateTime.now();
+    
+    public ProjectStatsReconciler(ProjectService projectService, ProjectStatsStore projectStatsStore, ChangeLogRepository changeLogRepository) {
+        this.projectService = projectService;
+        this.projectStatsStore = projectStatsStore;
+        this.changeLogRepository = changeLogRepository;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (projectStatsStore.isEnabled()) {
+            reconcile();
+            log.info("✓ In-memory project stats loaded");
+        }
+    }
+    
+    @Scheduled(
+        initialDelayString = "${taskflow.stats.reconcile-interval-ms:300000}",
+        fixedDelayString = "${taskflow.stats.reconcile-interval-ms:300000}"
+    )
+    public void reconcile() {
+        if (!projectStatsStore.isEnabled()) {
+            return;
+        }
+        try {
+            Map<UUID, long[]> before = projectStatsStore.snapshot();
+            Map<UUID, ProjectStatsResponse> database = ReplicaRoutingDataSource.onPrimary(() -> projectService.loadProjectStats(null));
+            int drifted = projectStatsStore.reconcile(database, before);
+            if (drifted > 0) {
+                log.warn("Project stats reconciliation corrected {} project(s)", drifted);
+            }
+        } catch (Exception e) {
+            log.error("Project stats reconciliation failed", e);
+        }
+    }
+    
+    /**
+     * Re-counts the projects named by change_log rows since the last poll. This node's own
+     * writes come back too; re-counting them is harmless, as the store already holds the result.
+     */
+    @Scheduled(
+        initialDelayString = "${taskflow.stats.poll-interval-ms:1000}",
+        fixedDelayString = "${taskflow.stats.poll-interval-ms:1000}"
+    )
+    @Override
+    public synchronized void poll() {
+        // Before the first full load there is nothing to correct; that load will include these rows.
+        if (!projectStatsStore.isReady()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Set<UUID> projectIds = new HashSet<>(pendingProjectIds);
+            // Re-reading an overlap catches rows that committed late; already applied ones are skipped.
+            for (ChangeLogEntry entry : changeLogRepository.findRecordedSince(lastPoll.minus(POLL_OVERLAP))) {
+                if (appliedChangeIds.add(entry.getId())) {
+                    // Bulk and project rows name the project as the entity
+                    projectIds.add(ChangeLogEntry.TASK.equals(entry.getEntityType()) ? entry.getProjectId() : entry.getEntityId());
+                    projectIds.add(entry.getPreviousProjectId());
+                }
+            }
+            projectIds.remove(null);
+            if (!projectIds.isEmpty()) {
+                Map<UUID, long[]> before = projectStatsStore.snapshot();
+                Set<UUID> skipped = projectStatsStore.refresh(
+                    ReplicaRoutingDataSource.onPrimary(() -> projectService.loadProjectStats(new ArrayList<>(projectIds))), before);
+                pendingProjectIds.removeAll(projectIds);
+                pendingProjectIds.addAll(skipped);
+            }
+            lastPoll = now;
+        } catch (Exception e) {
+            log.error("Project stats poll failed", e);
+        }
+    }
+    
+    @Order(VersionTracker.INVALIDATION_ORDER)
+    @TransactionalEventListener
+    public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+        // Before the first full load there is nothing to correct; that load will include these rows.
+        if (!projectStatsStore.isReady() || event.getProjectIds().isEmpty()) {
+            return;
+        }
+        try {
+            Map<UUID, long[]> before = projectStatsStore.snapshot();
+            projectStatsStore.refresh(
+                ReplicaRoutingDataSource.onPrimary(() -> projectService.loadProjectStats(new ArrayList<>(event.getProjectIds()))), before);
+        } catch (Exception e) {
+            log.error("Project stats refresh after bulk write failed", e);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.ProjectStatsResponse;
+import com.taskflow.event.ProjectChangedEvent;
+import com.taskflow.event.ProjectTasksPurgedEvent;
+import com.taskflow.event.TaskChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-project task counters kept current from committed task writes, so the stats
+ * endpoint is a memory read. {@link ProjectStatsReconciler} loads and corrects it, and
+ * refreshes the projects written on other nodes.
+ */
+@Slf4j
+@Service
+public class ProjectStatsStore {
+    
+    private final ConcurrentHashMap<UUID, Counters> counters = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private volatile boolean ready;
+    
+    public ProjectStatsStore(@Value("${taskflow.stats.in-memory.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public boolean isReady() {
+        return enabled && ready;
+    }
+    
+    public Map<UUID, ProjectStatsResponse> getStats(List<UUID> projectIds) {
+        Map<UUID, ProjectStatsResponse> stats = new HashMap<>();
+        if (projectIds == null || projectIds.isEmpty()) {
+            counters.forEach((projectId, projectCounters) -> stats.put(projectId, projectCounters.toResponse()));
+            return stats;
+        }
+        for (UUID projectId : projectIds) {
+            Counters projectCounters = counters.get(projectId);
+            stats.put(projectId, projectCounters != null
+                ? projectCounters.toResponse()
+                : new ProjectStatsResponse(0L, 0L, 0L, 0L));
+        }
+        return stats;
+    }
+    
+    @Order(VersionTracker.INVALIDATION_ORDER)
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        switch (event.getType()) {
+            case CREATED -> add(event.getTask().getProjectId(), event.getTask().getStatus(), 1);
+            case UPDATED -> {
+                UUID projectId = event.getTask().getProjectId();
+                String status = event.getTask().getStatus();
+                if (!Objects.equals(projectId, event.getPreviousProjectId())
+                        || !Objects.equals(status, event.getPreviousStatus())) {
+                    add(event.getPreviousProjectId(), event.getPreviousStatus(), -1);
+                    add(projectId, status, 1);
+                }
+            }
+            case DELETED -> add(event.getPreviousProjectId(), event.getPreviousStatus(), -1);
+        }
+    }
+    
+    @Order(VersionTracker.INVALIDATION_ORDER)
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        switch (event.getType()) {
+            case CREATED -> counters.computeIfAbsent(event.getProjectId(), id -> new Counters());
+            // The project's tasks are being purged, so they no longer count anywhere
+            case DELETED -> counters.remove(event.getProjectId());
+            default -> { }
+        }
+    }
+    
+    // A reconcile that ran while the purge was still going may have counted the remaining tasks again
+    @Order(VersionTracker.INVALIDATION_ORDER)
+    @TransactionalEventListener
+    public void onProjectTasksPurged(ProjectTasksPurgedEvent event) {
+        if (enabled) {
+            counters.remove(event.getProjectId());
+        }
+    }
+    
+    /**
+     * Compares the counters with a fresh database aggregate and applies the difference.
+     * Projects whose counters moved while the query ran are skipped, as the query may or may
+     * not have seen those writes; they are picked up on the next run.
+     *
+     * @return the number of projects whose counters had drifted
+     */
+    int reconcile(Map<UUID, ProjectStatsResponse> database, Map<UUID, long[]> before) {
+        Set<UUID> projectIds = new HashSet<>(database.keySet());
+        projectIds.addAll(counters.keySet());
+        int drifted = apply(projectIds, database, before, true, new HashSet<>());
+        ready = true;
+        return drifted;
+    }
+    
+    /**
+     * Overwrites the counters of the given projects after writes that did not publish per-task
+     * events here: set-based writes, and writes made on other nodes. Uses the same in-flight
+     * check as {@link #reconcile}.
+     *
+     * @return the projects skipped by that check
+     */
+    Set<UUID> refresh(Map<UUID, ProjectStatsResponse> database, Map<UUID, long[]> before) {
+        Set<UUID> skipped = new HashSet<>();
+        apply(database.keySet(), database, before, false, skipped);
+        return skipped;
+    }
+    
+    private int apply(Set<UUID> projectIds, Map<UUID, ProjectStatsResponse> database, Map<UUID, long[]> before, boolean reportDrift, Set<UUID> skipped) {
+        int drifted = 0;
+        for (UUID projectId : projectIds) {
+            Counters projectCounters = counters.computeIfAbsent(projectId, id -> new Counters());
+            long[] current = projectCounters.values();
+            if (ready && !Arrays.equals(current, before.getOrDefault(projectId, new long[4]))) {
+                skipped.add(projectId);
+                continue;
+            }
+            ProjectStatsResponse expected = database.get(projectId);
+            long[] target = expected != null
+                ? new long[] { expected.getTotalTasks(), expected.getCompletedTasks(), expected.getInProgressTasks(), expected.getPendingTasks() }
+                : new long[4];
+            if (!Arrays.equals(current, target)) {
+                if (ready && reportDrift) {
+                    drifted++;
+                    log.warn("Project stats drift for {}: memory {} database {}", projectId,
+                        Arrays.toString(current), Arrays.toString(target));
+                }
+                projectCounters.adjust(target, current);
+            }
+            if (expected == null && projectCounters.total.sum() == 0) {
+                counters.remove(projectId, projectCounters);
+            }
+        }
+        return drifted;
+    }
+    
+    Map<UUID, long[]> snapshot() {
+        Map<UUID, long[]> snapshot = new HashMap<>();
+        counters.forEach((projectId, projectCounters) -> snapshot.put(projectId, projectCounters.values()));
+        return snapshot;
+    }
+    
+    private void add(UUID projectId, String status, long delta) {
+        if (projectId == null) {
+            return;
+        }
+        counters.computeIfAbsent(projectId, id -> new Counters()).add(status, delta);
+    }
+    
+    private static final class Counters {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder inProgress = new LongAdder();
+        private final LongAdder pending = new LongAdder();
+        
+        void add(String status, long delta) {
+            total.add(delta);
+            if ("COMPLETED".equals(status)) {
+                completed.add(delta);
+            } else if ("IN_PROGRESS".equals(status)) {
+                inProgress.add(delta);
+            } else if ("PENDING".equals(status)) {
+                pending.add(delta);
+            }
+        }
+        
+        long[] values() {
+            return new long[] { total.sum(), completed.sum(), inProgress.sum(), pending.sum() };
+        }
+        
+        void adjust(long[] target, long[] current) {
+            total.add(target[0] - current[0]);
+            completed.add(target[1] - current[1]);
+            inProgress.add(target[2] - current[2]);
+            pending.add(target[3] - current[3]);
+        }
+        
+        ProjectStatsResponse toResponse() {
+            return new ProjectStatsResponse(total.sum(), completed.sum(), inProgress.sum(), pending.sum());
+        }
+    }
+}
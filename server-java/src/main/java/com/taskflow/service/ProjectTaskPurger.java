@@ -0,0 +1,119 @@
+package com.taskflow.service;
+
+import com.taskflow.event.ProjectTasksPurgedEvent;
+import com.taskflow.repository.DeletedTask;
+import com.taskflow.repository.TaskDeleter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Removes the tasks of deleted projects in chunks of {@code taskflow.projects.delete-chunk-size},
+ * each in its own short transaction, so a project with hundreds of thousands of tasks never
+ * holds a long-running delete on {@code tasks}.
+ * <p>
+ * The first chunk is deleted with the project itself; anything left continues on a background
+ * thread after that transaction commits. A periodic sweep finishes purges interrupted by a
+ * restart. It only considers projects whose delete is recorded in {@code change_log}, so tasks
+ * are never removed merely because their project id matches no row.
+ */
+@Slf4j
+@Component
+public class ProjectTaskPurger {
+    
+    private final TaskDeleter taskDeleter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Set<UUID> purging = ConcurrentHashMap.newKeySet();
+    
+    public ProjectTaskPurger(
+            TaskDeleter taskDeleter,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${taskflow.projects.delete-chunk-size:5000}") int chunkSize
+    ) {
+        this.taskDeleter = taskDeleter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+    
+    /**
+     * Deletes the first chunk of the project's tasks in the caller's transaction and, if more
+     * remain, purges the rest once it commits. Returns the number of tasks deleted so far.
+     */
+    public int purge(UUID projectId) {
+        int deleted = deleteChunk(projectId);
+        if (deleted < chunkSize) {
+            return deleted;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    purgeInBackground(projectId, deleted);
+                }
+            });
+        } else {
+            purgeInBackground(projectId, deleted);
+        }
+        return deleted;
+    }
+    
+    @Scheduled(
+        initialDelayString = "${taskflow.projects.orphan-sweep-interval-ms:3600000}",
+        fixedDelayString = "${taskflow.projects.orphan-sweep-interval-ms:3600000}"
+    )
+    public void sweepOrphans() {
+        try {
+            for (UUID projectId : taskDeleter.findOrphanedProjectIds()) {
+                purgeInBackground(projectId, 0);
+            }
+        } catch (Exception e) {
+            log.error("Orphaned task sweep failed", e);
+        }
+    }
+    
+    private void purgeInBackground(UUID projectId, int alreadyDeleted) {
+        if (!purging.add(projectId)) {
+            return;
+        }
+        Thread.ofVirtual().name("project-purge-" + projectId).start(() -> {
+            long started = System.currentTimeMillis();
+            long total = alreadyDeleted;
+            try {
+                int deleted;
+                do {
+                    deleted = transactionTemplate.execute(status -> deleteChunk(projectId));
+                    total += deleted;
+                } while (deleted == chunkSize);
+                log.info("Deleted {} task(s) of project {} in {} ms", total, projectId, System.currentTimeMillis() - started);
+            } catch (Exception e) {
+                // The orphan sweep resumes from whatever is left
+                log.error("Deleting tasks of project {} failed after {} task(s)", projectId, total, e);
+            } finally {
+                purging.remove(projectId);
+            }
+        });
+    }
+    
+    private int deleteChunk(UUID projectId) {
+        List<DeletedTask> deleted = taskDeleter.deleteProjectChunk(projectId, chunkSize);
+        if (!deleted.isEmpty()) {
+            eventPublisher.publishEvent(new ProjectTasksPurgedEvent(projectId, deleted.stream().map(DeletedTask::getId).toList()));
+        }
+        return deleted.size();
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskflow.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Sends digests through {@code spring.mail.*}. For development and tests point it at a local
+ * SMTP stand-in such as MailHog or smtp4dev (host localhost, port 1025).
+ */
+@Component
+@ConditionalOnProperty(name = "taskflow.notifications.sender", havingValue = "smtp")
+public class SmtpNotificationSender implements NotificationSender {
+    
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final String recipientDomain;
+    
+    public SmtpNotificationSender(
+            JavaMailSender mailSender,
+            @Value("${taskflow.notifications.smtp.from:taskflow@localhost}") String from,
+            @Value("${taskflow.notifications.smtp.recipient-domain:localhost}") String recipientDomain
+    ) {
+        this.mailSender = mailSender;
+        this.from = from;
+        this.recipientDomain = recipientDomain;
+    }
+    
+    @Override
+    public void send(String recipient, List<TaskNotification> notifications) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        // Assignees are plain names today; anything without an @ gets the configured domain.
+        message.setTo(recipient.contains("@") ? recipient : recipient.replace(' ', '.') + "@" + recipientDomain);
+        message.setSubject(NotificationMessages.subject(notifications));
+        message.setText(NotificationMessages.body(notifications));
+        mailSender.send(message);
+    }
+}
@@ -0,0 +1,278 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.BatchTaskOperation;
+import com.taskflow.dto.BatchTaskResponse;
+import com.taskflow.dto.BatchTaskResult;
+import com.taskflow.dto.CreateTaskRequest;
+import com.taskflow.dto.UpdateTaskRequest;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.model.Task;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies create/update/delete operations in chunked transactions. Each chunk is flushed once,
+ * so Hibernate can send its inserts and updates as JDBC batches. If a chunk fails to commit,
+ * its operations are retried one at a time so that only the offending items are reported as failed.
+ */
+@Slf4j
+@Service
+public class TaskBatchService {
+    
+    private static final int CHUNK_SIZE = 500;
+    
+    private enum Kind { CREATE, UPDATE, DELETE }
+    
+    private record PendingOperation(int index, Kind kind, UUID id, CreateTaskRequest create, UpdateTaskRequest update) {
+    }
+    
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public TaskBatchService(
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            ApplicationEventPublisher eventPublisher,
+            Validator validator,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    public BatchTaskResponse execute(List<BatchTaskOperation> operations) {
+        BatchTaskResult[] results = new BatchTaskResult[operations.size()];
+        List<PendingOperation> pending = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            PendingOperation operation = prepare(i, operations.get(i), results);
+            if (operation != null) {
+                pending.add(operation);
+            }
+        }
+        pending = rejectUnknownProjects(pending, results);
+        
+        for (int from = 0; from < pending.size(); from += CHUNK_SIZE) {
+            runChunk(pending.subList(from, Math.min(from + CHUNK_SIZE, pending.size())), results);
+        }
+        
+        int succeeded = 0;
+        for (BatchTaskResult result : results) {
+            if (result.getStatus() < 400) {
+                succeeded++;
+            }
+        }
+        return new BatchTaskResponse(succeeded, results.length - succeeded, List.of(results));
+    }
+    
+    // One lookup for every project the batch names; operations naming a missing one fail alone
+    private List<PendingOperation> rejectUnknownProjects(List<PendingOperation> pending, BatchTaskResult[] results) {
+        Set<UUID> named = new HashSet<>();
+        for (PendingOperation operation : pending) {
+            UUID projectId = projectIdOf(operation);
+            if (projectId != null) {
+                named.add(projectId);
+            }
+        }
+        if (named.isEmpty()) {
+            return pending;
+        }
+        Set<UUID> existing = new HashSet<>(projectRepository.findExistingIds(named));
+        List<PendingOperation> accepted = new ArrayList<>(pending.size());
+        for (PendingOperation operation : pending) {
+            UUID projectId = projectIdOf(operation);
+            if (projectId != null && !existing.contains(projectId)) {
+                String op = operation.kind().name().toLowerCase(Locale.ROOT);
+                results[operation.index()] = new BatchTaskResult(operation.index(), op, operation.id(), 400, "projectId does not exist");
+            } else {
+                accepted.add(operation);
+            }
+        }
+        return accepted;
+    }
+    
+    private static UUID projectIdOf(PendingOperation operation) {
+        return switch (operation.kind()) {
+            case CREATE -> operation.create().getProjectId();
+            case UPDATE -> operation.update().getProjectId();
+            case DELETE -> null;
+        };
+    }
+    
+    private PendingOperation prepare(int index, BatchTaskOperation operation, BatchTaskResult[] results) {
+        String op = operation != null && operation.getOp() != null ? operation.getOp().toLowerCase(Locale.ROOT) : "";
+        UUID id = operation != null ? operation.getId() : null;
+        String error = null;
+        Kind kind = null;
+        
+        switch (op) {
+            case "create" -> {
+                kind = Kind.CREATE;
+                if (operation.getCreate() == null) {
+                    error = "create body is required";
+                } else {
+                    error = validate(operation.getCreate());
+                    if (error == null) {
+                        error = validateDueDate(operation.getCreate().getDueDate());
+                    }
+                }
+            }
+            case "update" -> {
+                kind = Kind.UPDATE;
+                if (id == null) {
+                    error = "id is required";
+                } else if (operation.getUpdate() == null) {
+                    error = "update body is required";
+                } else {
+                    error = validate(operation.getUpdate());
+                    if (error == null) {
+                        error = validateDueDate(operation.getUpdate().getDueDate());
+                    }
+                }
+            }
+            case "delete" -> {
+                kind = Kind.DELETE;
+                if (id == null) {
+                    error = "id is required";
+                }
+            }
+            default -> error = "op must be create, update or delete";
+        }
+        
+        if (error != null) {
+            results[index] = new BatchTaskResult(index, op, id, 400, error);
+            return null;
+        }
+        return new PendingOperation(index, kind, id, operation.getCreate(), operation.getUpdate());
+    }
+    
+    private String validate(Object request) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+    
+    private String validateDueDate(String dueDate) {
+        try {
+            TaskService.parseIsoDate(dueDate);
+            return null;
+        } catch (DateTimeParseException e) {
+            return "dueDate must be an ISO-8601 date-time";
+        }
+    }
+    
+    private void runChunk(List<PendingOperation> chunk, BatchTaskResult[] results) {
+        List<BatchTaskResult> chunkResults = new ArrayList<>(chunk.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(chunk, chunkResults));
+        } catch (RuntimeException e) {
+            if (chunk.size() > 1) {
+                log.warn("Batch chunk of {} operations failed, retrying individually: {}", chunk.size(), e.getMessage());
+                for (PendingOperation operation : chunk) {
+                    runChunk(List.of(operation), results);
+                }
+                return;
+            }
+            PendingOperation operation = chunk.get(0);
+            int status = e instanceof DataIntegrityViolationException || e instanceof OptimisticLockingFailureException ? 409 : 500;
+            log.warn("Batch operation {} failed: {}", operation.index(), e.getMessage());
+            results[operation.index()] = new BatchTaskResult(
+                operation.index(), operation.kind().name().toLowerCase(Locale.ROOT), operation.id(), status, "Could not apply operation"
+            );
+            return;
+        }
+        
+        for (BatchTaskResult result : chunkResults) {
+            results[result.getIndex()] = result;
+        }
+    }
+    
+    private void apply(List<PendingOperation> chunk, List<BatchTaskResult> chunkResults) {
+        List<UUID> ids = chunk.stream()
+                .filter(operation -> operation.kind() != Kind.CREATE)
+                .map(PendingOperation::id)
+                .distinct()
+                .toList();
+        Map<UUID, Task> existing = ids.isEmpty()
+                ? new HashMap<>()
+                : taskRepository.findAllById(ids).stream().collect(Collectors.toMap(Task::getId, Function.identity()));
+        
+        for (PendingOperation operation : chunk) {
+            String op = operation.kind().name().toLowerCase(Locale.ROOT);
+            switch (operation.kind()) {
+                case CREATE -> {
+                    Task task = taskRepository.save(TaskService.newTask(operation.create()));
+                    eventPublisher.publishEvent(TaskChangedEvent.created(task));
+                    chunkResults.add(new BatchTaskResult(operation.index(), op, task.getId(), 201, null));
+                }
+                case UPDATE -> {
+                    Task task = existing.get(operation.id());
+                    if (task == null) {
+                        chunkResults.add(new BatchTaskResult(operation.index(), op, operation.id(), 404, "Task not found"));
+                        continue;
+                    }
+                    TaskStatusConflictException.Reason conflict = TaskService.conflictOf(task, operation.update());
+                    if (conflict != null) {
+                        chunkResults.add(new BatchTaskResult(operation.index(), op, task.getId(), 409, conflict.name()));
+                        continue;
+                    }
+                    UUID previousProjectId = task.getProjectId();
+                    String previousStatus = task.getStatus();
+                    TaskService.applyUpdate(task, operation.update());
+                    eventPublisher.publishEvent(TaskChangedEvent.updated(previousProjectId, previousStatus, task));
+                    chunkResults.add(new BatchTaskResult(operation.index(), op, task.getId(), 200, null));
+                }
+                case DELETE -> {
+                    Task task = existing.remove(operation.id());
+                    if (task == null) {
+                        chunkResults.add(new BatchTaskResult(operation.index(), op, operation.id(), 404, "Task not found"));
+                        continue;
+                    }
+                    taskRepository.delete(task);
+                    eventPublisher.publishEvent(TaskChangedEvent.deleted(task.getId(), task.getProjectId(), task.getStatus()));
+                    chunkResults.add(new BatchTaskResult(operation.index(), op, task.getId(), 204, null));
+                }
+            }
+        }
+        
+        // One flush per chunk lets Hibernate group the statements into JDBC batches.
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
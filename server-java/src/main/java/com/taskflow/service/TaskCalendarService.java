@@ -0,0 +1,131 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.CalendarBucket;
+import com.taskflow.dto.CalendarResponse;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.DueDayCount;
+import com.taskflow.repository.TaskFilter;
+import com.taskflow.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Per-day or per-week task counts for the calendar view. The database groups by due day over
+ * the indexed {@code due_date} range; weeks are folded from days here, which touches at most
+ * a few rows per day and status/priority pair.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskCalendarService {
+    
+    public static final int MAX_RANGE_DAYS = 366;
+    public static final int DEFAULT_TASKS_PER_BUCKET = 5;
+    public static final int MAX_TASKS_PER_BUCKET = 50;
+    
+    public enum Granularity { DAY, WEEK }
+    
+    private final TaskRepository taskRepository;
+    
+    @Transactional(readOnly = true)
+    public CalendarResponse getCalendar(
+            LocalDate from,
+            LocalDate to,
+            String granularity,
+            UUID projectId,
+            String status,
+            Integer priority,
+            Integer tasksPerBucket
+    ) {
+        Granularity unit = parseGranularity(granularity);
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("to must be on or after from and at most " + MAX_RANGE_DAYS + " days later");
+        }
+        int perBucket = tasksPerBucket != null ? tasksPerBucket : DEFAULT_TASKS_PER_BUCKET;
+        if (perBucket < 0) {
+            throw new IllegalArgumentException("tasksPerBucket must not be negative");
+        }
+        perBucket = Math.min(perBucket, MAX_TASKS_PER_BUCKET);
+        String granularityName = unit.name().toLowerCase(Locale.ROOT);
+        // An unknown status matches nothing, as it does for GET /api/tasks.
+        if (status != null && !TaskStatus.isValid(status)) {
+            return new CalendarResponse(from, to, granularityName, List.of());
+        }
+        
+        TaskFilter filter = new TaskFilter(projectId, status, priority, null, null);
+        // to is inclusive: the whole of its day is in range
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        
+        Map<LocalDate, BucketBuilder> buckets = new TreeMap<>();
+        for (DueDayCount count : taskRepository.countByDueDay(start, end, filter)) {
+            buckets.computeIfAbsent(bucketStart(count.getDay(), unit), key -> new BucketBuilder()).add(count);
+        }
+        
+        // Each day's first N tasks include its week's first N, so one per-day query serves both granularities
+        if (perBucket > 0 && !buckets.isEmpty()) {
+            for (Task task : taskRepository.findFirstByDueDay(start, end, filter, perBucket)) {
+                BucketBuilder bucket = buckets.get(bucketStart(task.getDueDate().toLocalDate(), unit));
+                if (bucket != null && bucket.tasks.size() < perBucket) {
+                    bucket.tasks.add(task);
+                }
+            }
+        }
+        
+        List<CalendarBucket> result = new ArrayList<>(buckets.size());
+        buckets.forEach((bucketStart, bucket) -> result.add(bucket.build(bucketStart)));
+        return new CalendarResponse(from, to, granularityName, result);
+    }
+    
+    private static Granularity parseGranularity(String granularity) {
+        if (granularity == null) {
+            return Granularity.DAY;
+        }
+        try {
+            return Granularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("granularity must be day or week");
+        }
+    }
+    
+    private static LocalDate bucketStart(LocalDate day, Granularity unit) {
+        return unit == Granularity.WEEK ? day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : day;
+    }
+    
+    private static final class BucketBuilder {
+        private final Map<String, Long> byStatus = new LinkedHashMap<>();
+        private final Map<Integer, Long> byPriority = new TreeMap<>();
+        private final List<Task> tasks = new ArrayList<>();
+        private long total;
+        
+        private BucketBuilder() {
+            for (TaskStatus status : TaskStatus.values()) {
+                byStatus.put(status.name(), 0L);
+            }
+        }
+        
+        private void add(DueDayCount count) {
+            total += count.getTaskCount();
+            byStatus.merge(count.getStatus(), count.getTaskCount(), Long::sum);
+            byPriority.merge(count.getPriority(), count.getTaskCount(), Long::sum);
+        }
+        
+        private CalendarBucket build(LocalDate start) {
+            return new CalendarBucket(start, total, byStatus, byPriority, tasks);
+        }
+    }
+}
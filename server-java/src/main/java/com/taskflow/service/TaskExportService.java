@@ -0,0 +1,162 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.taskflow.model.Task;
+import com.taskflow.repository.TaskFilter;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskSortField;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class TaskExportService {
+    
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+        
+        private final String contentType;
+        private final String extension;
+        
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+        
+        public String getContentType() {
+            return contentType;
+        }
+        
+        public String getExtension() {
+            return extension;
+        }
+        
+        public static Format fromParam(String format) {
+            if (format == null || format.equalsIgnoreCase("ndjson")) {
+                return NDJSON;
+            }
+            if (format.equalsIgnoreCase("csv")) {
+                return CSV;
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+    }
+    
+    private static final int FETCH_SIZE = 1000;
+    private static final int FLUSH_EVERY = 1000;
+    private static final String CSV_HEADER =
+        "id,projectId,name,description,priority,dueDate,assignee,status,createdAt,updatedAt";
+    
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    
+    public TaskExportService(TaskRepository taskRepository, ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    public void export(TaskFilter filter, TaskSortField sortField, boolean descending, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        try {
+            long rows = readOnlyTransaction.execute(status -> {
+                try (Stream<Task> tasks = taskRepository.streamTasks(filter, sortField, descending, FETCH_SIZE)) {
+                    return format == Format.CSV ? writeCsv(tasks, writer) : writeNdjson(tasks, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            log.info("Exported {} tasks as {}", rows, format);
+        } catch (UncheckedIOException e) {
+            // Usually the client went away mid-download; the transaction has already been rolled back.
+            throw e.getCause();
+        }
+    }
+    
+    private long writeNdjson(Stream<Task> tasks, Writer writer) throws IOException {
+        long rows = 0;
+        try (SequenceWriter sequence = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(writer)) {
+            for (Task task : (Iterable<Task>) tasks::iterator) {
+                sequence.write(task);
+                if (++rows % FLUSH_EVERY == 0) {
+                    sequence.flush();
+                }
+            }
+        }
+        if (rows > 0) {
+            writer.write('\n');
+        }
+        return rows;
+    }
+    
+    private long writeCsv(Stream<Task> tasks, Writer writer) throws IOException {
+        long rows = 0;
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        for (Task task : (Iterable<Task>) tasks::iterator) {
+            writeCsvField(writer, task.getId());
+            writer.write(',');
+            writeCsvField(writer, task.getProjectId());
+            writer.write(',');
+            writeCsvField(writer, task.getName());
+            writer.write(',');
+            writeCsvField(writer, task.getDescription());
+            writer.write(',');
+            writeCsvField(writer, task.getPriority());
+            writer.write(',');
+            writeCsvField(writer, task.getDueDate());
+            writer.write(',');
+            writeCsvField(writer, task.getAssignee());
+            writer.write(',');
+            writeCsvField(writer, task.getStatus());
+            writer.write(',');
+            writeCsvField(writer, task.getCreatedAt());
+            writer.write(',');
+            writeCsvField(writer, task.getUpdatedAt());
+            writer.write('\n');
+            if (++rows % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        return rows;
+    }
+    
+    private static void writeCsvField(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
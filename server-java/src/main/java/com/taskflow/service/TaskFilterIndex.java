@@ -0,0 +1,774 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.config.ReplicaRoutingDataSource;
+import com.taskflow.dto.FilterIndexStatsResponse;
+import com.taskflow.event.ChangeType;
+import com.taskflow.event.ProjectTasksPurgedEvent;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TasksBulkChangedEvent;
+import com.taskflow.model.ChangeLogEntry;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.ChangeLogRepository;
+import com.taskflow.repository.TaskCursor;
+import com.taskflow.repository.TaskFilter;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskSortField;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Optional in-process index that answers filtered, paged task listings without touching the
+ * database until the page itself is fetched by id.
+ * <p>
+ * Every task gets a dense integer ordinal. Project, status, priority and assignee each map to a
+ * Roaring bitmap of ordinals, so a filter combination is a bitmap AND; due dates are kept in a
+ * sorted array of packed (second, ordinal) longs for range lookups. Ordinals changed since that
+ * array was last sorted are tracked in a small dirty bitmap and checked individually, and the
+ * array is re-sorted once the dirty set grows. The index is built in the background at startup,
+ * updated after each local write commits, follows writes from other nodes through
+ * {@code change_log}, and is rebuilt periodically to compact freed ordinals.
+ * <p>
+ * Callers fall back to SQL whenever {@link #findPage} returns empty: when the index is disabled,
+ * still warming up, or asked for a sort it does not keep (name, updatedAt).
+ */
+@Slf4j
+@Service
+public class TaskFilterIndex implements ChangeLogFollower {
+    
+    public record Page(List<UUID> ids, long total) {
+    }
+    
+    // A committed task as the index sees it; timestamps are epoch microseconds of the local date-time.
+    private record Row(UUID id, UUID projectId, String status, int priority, String assignee, long dueMicros, long updatedMicros) {
+        private static Row of(Task task) {
+            return new Row(
+                task.getId(),
+                task.getProjectId(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getAssignee(),
+                task.getDueDate() != null ? micros(task.getDueDate()) : NO_DUE,
+                task.getUpdatedAt() != null ? micros(task.getUpdatedAt()) : 0L
+            );
+        }
+    }
+    
+    private static final int ORDINAL_BITS = 28;
+    private static final long ORDINAL_MASK = (1L << ORDINAL_BITS) - 1;
+    // Due seconds are shifted into [0, 2^35) so packed keys stay positive: years ~1480 to ~2560.
+    private static final long SECOND_OFFSET = 1L << 34;
+    private static final long NO_DUE = Long.MAX_VALUE;
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(10);
+    private static final int RECENT_IDS_RETAINED = 100_000;
+    private static final int LOAD_FETCH_SIZE = 5000;
+    
+    private final TaskRepository taskRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration rebuildInterval;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+    // Deleted ids are never reused, so a late upsert for one of these is stale by definition
+    private final Set<UUID> removedIds = lruSet(RECENT_IDS_RETAINED);
+    private final Set<Long> appliedChangeIds = lruSet(RECENT_IDS_RETAINED);
+    private volatile State state;
+    // Non-null while a rebuild runs; changes made meanwhile are replayed onto the new state. Guarded by lock.
+    private List<Row> pendingUpserts;
+    private List<UUID> pendingRemovals;
+    private final AtomicBoolean building = new AtomicBoolean();
+    private volatile LocalDateTime lastPoll;
+    private volatile LocalDateTime lastBuild;
+    private volatile long lastBuildMs;
+    
+    public TaskFilterIndex(
+            TaskRepository taskRepository,
+            ChangeLogRepository changeLogRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${taskflow.filter-index.enabled:false}") boolean enabled,
+            @Value("${taskflow.filter-index.rebuild-interval:30m}") Duration rebuildInterval
+    ) {
+        this.taskRepository = taskRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.rebuildInterval = rebuildInterval;
+    }
+    
+    public boolean isReady() {
+        return enabled && state != null;
+    }
+    
+    /**
+     * Ids of up to {@code limit} matching tasks after {@code after}, in the order the SQL path
+     * would return them, plus the total match count. Empty when the caller must use SQL.
+     */
+    public Optional<Page> findPage(TaskFilter filter, TaskSortField sortField, boolean descending, TaskCursor after, int limit) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        if (sortField != TaskSortField.DUE_DATE && sortField != TaskSortField.PRIORITY) {
+            fallbacks.incrementAndGet();
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            if (state == null) {
+                fallbacks.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            return Optional.of(state.page(state.select(filter), sortField, descending, after, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Ids of every matching task, in the order the SQL path would return them (index order when
+     * {@code sortField} is null, as SQL then promises none). Empty when the caller must use SQL.
+     */
+    public Optional<List<UUID>> findAll(TaskFilter filter, TaskSortField sortField, boolean descending) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        if (sortField != null && sortField != TaskSortField.DUE_DATE && sortField != TaskSortField.PRIORITY) {
+            fallbacks.incrementAndGet();
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            if (state == null) {
+                fallbacks.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            return Optional.of(state.all(state.select(filter), sortField, descending));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /** True if {@code task} satisfies {@code filter}; used to drop rows that changed after the index answered. */
+    public static boolean matches(Task task, TaskFilter filter) {
+        if (filter.getProjectId() != null && !filter.getProjectId().equals(task.getProjectId())) {
+            return false;
+        }
+        if (!filter.matchesStatus(task.getStatus()) || !filter.matchesPriority(task.getPriority())) {
+            return false;
+        }
+        if (filter.getAssignee() != null && !filter.getAssignee().equals(task.getAssignee())) {
+            return false;
+        }
+        // Tasks without a due date pass the date range, as in the SQL filter
+        LocalDateTime due = task.getDueDate();
+        return due == null
+                || ((filter.getStartDate() == null || !due.isBefore(filter.getStartDate()))
+                    && (filter.getEndDate() == null || !due.isAfter(filter.getEndDate())));
+    }
+    
+    public FilterIndexStatsResponse getStats() {
+        long served = hits.get();
+        long total = served + fallbacks.get();
+        lock.readLock().lock();
+        try {
+            return new FilterIndexStatsResponse(
+                enabled,
+                state != null,
+                building.get(),
+                state != null ? state.live.getCardinality() : 0,
+                state != null ? state.bitmapBytes() : 0,
+                state != null ? state.arrayBytes() : 0,
+                served,
+                fallbacks.get(),
+                total > 0 ? (double) served / total : 0.0,
+                lastBuildMs
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            // Listings use SQL until the first build completes
+            startRebuild();
+        }
+    }
+    
+    @Order(VersionTracker.INVALIDATION_ORDER)
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.getType() == ChangeType.DELETED) {
+            remove(event.getTaskId());
+        } else {
+            upsert(Row.of(event.getTask()));
+        }
+    }
+    
+    @Order(VersionTracker.INVALIDATION_ORDER)
+    @TransactionalEventListener
+    public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+        if (enabled) {
+            event.getProjectIds().forEach(this::reloadProject);
+        }
+    }
+    
+    @Order(VersionTracker.INVALIDATION_ORDER)
+    @TransactionalEventListener
+    public void onProjectTasksPurged(ProjectTasksPurgedEvent event) {
+        if (enabled) {
+            event.getTaskIds().forEach(this::remove);
+        }
+    }
+    
+    @Scheduled(
+        initialDelayString = "${taskflow.filter-index.poll-interval-ms:1000}",
+        fixedDelayString = "${taskflow.filter-index.poll-interval-ms:1000}"
+    )
+    @Override
+    public synchronized void poll() {
+        if (!enabled || building.get()) {
+            return;
+        }
+        if (state == null) {
+            // The startup build failed; try again
+            startRebuild();
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (lastBuild.isBefore(now.minus(rebuildInterval))) {
+                startRebuild();
+                return;
+            }
+            // Re-reading an overlap catches rows that committed late; already applied ones are skipped.
+            for (ChangeLogEntry entry : changeLogRepository.findRecordedSince(lastPoll.minus(POLL_OVERLAP))) {
+                if (appliedChangeIds.add(entry.getId())) {
+                    apply(entry);
+                }
+            }
+            lastPoll = now;
+        } catch (Exception e) {
+            log.error("Task filter index poll failed", e);
+        }
+    }
+    
+    private void apply(ChangeLogEntry entry) throws Exception {
+        if (ChangeLogEntry.TASK.equals(entry.getEntityType())) {
+            if (ChangeType.DELETED.name().equals(entry.getChangeType())) {
+                remove(entry.getEntityId());
+            } else if (entry.getPayload() != null) {
+                upsert(Row.of(objectMapper.readValue(entry.getPayload(), Task.class)));
+            }
+        } else if ("BULK".equals(entry.getChangeType())) {
+            reloadProject(entry.getEntityId());
+        } else if (ChangeType.DELETED.name().equals(entry.getChangeType())) {
+            // Purged tasks are not logged one by one; the project's deletion stands for them
+            removeProject(entry.getEntityId());
+        }
+    }
+    
+    // Builds run on their own thread so a large table never holds up the shared scheduler.
+    private void startRebuild() {
+        if (building.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("task-filter-index-build").start(this::rebuild);
+        }
+    }
+    
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        LocalDateTime pollFrom = LocalDateTime.now();
+        lock.writeLock().lock();
+        try {
+            pendingUpserts = new ArrayList<>();
+            pendingRemovals = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        State fresh = new State();
+        try {
+            // On the primary: writes polled from change_log while building must already be in the rows read here
+            ReplicaRoutingDataSource.runOnPrimary(() -> transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Task> tasks = taskRepository.streamTasks(null, null, false, LOAD_FETCH_SIZE)) {
+                    tasks.forEach(task -> fresh.upsert(Row.of(task)));
+                }
+            }));
+        } catch (RuntimeException e) {
+            log.error("Task filter index build failed", e);
+            lock.writeLock().lock();
+            try {
+                pendingUpserts = null;
+                pendingRemovals = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            building.set(false);
+            return;
+        }
+        
+        lock.writeLock().lock();
+        try {
+            pendingUpserts.forEach(fresh::upsert);
+            pendingRemovals.forEach(fresh::remove);
+            fresh.optimize();
+            if (lastPoll == null) {
+                lastPoll = pollFrom;
+            }
+            lastBuild = LocalDateTime.now();
+            lastBuildMs = System.currentTimeMillis() - started;
+            state = fresh;
+            pendingUpserts = null;
+            pendingRemovals = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        building.set(false);
+        log.info("✓ Task filter index built for {} task(s) in {} ms", fresh.live.getCardinality(), lastBuildMs);
+    }
+    
+    private void reloadProject(UUID projectId) {
+        List<Row> rows = new ArrayList<>();
+        // Called right after a commit, which a replica may not have applied yet
+        ReplicaRoutingDataSource.runOnPrimary(() -> transactionTemplate.executeWithoutResult(
+            status -> taskRepository.findByProjectId(projectId).forEach(task -> rows.add(Row.of(task)))));
+        rows.forEach(this::upsert);
+    }
+    
+    private void removeProject(UUID projectId) {
+        List<UUID> ids;
+        lock.readLock().lock();
+        try {
+            ids = state != null ? state.idsOf(projectId) : List.of();
+        } finally {
+            lock.readLock().unlock();
+        }
+        ids.forEach(this::remove);
+    }
+    
+    private void upsert(Row row) {
+        lock.writeLock().lock();
+        try {
+            if (removedIds.contains(row.id())) {
+                return;
+            }
+            if (pendingUpserts != null) {
+                pendingUpserts.add(row);
+            }
+            if (state != null) {
+                state.upsert(row);
+                state.resortIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void remove(UUID taskId) {
+        lock.writeLock().lock();
+        try {
+            removedIds.add(taskId);
+            if (pendingRemovals != null) {
+                pendingRemovals.add(taskId);
+            }
+            if (state != null) {
+                state.remove(taskId);
+                state.resortIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private static <T> Set<T> lruSet(int capacity) {
+        return Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<T, Boolean> eldest) {
+                return size() > capacity;
+            }
+        }));
+    }
+    
+    private static long micros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000;
+    }
+    
+    private static int compareIds(long msbA, long lsbA, long msbB, long lsbB) {
+        // Unsigned, byte by byte, which is how PostgreSQL orders uuid columns
+        int cmp = Long.compareUnsigned(msbA, msbB);
+        return cmp != 0 ? cmp : Long.compareUnsigned(lsbA, lsbB);
+    }
+    
+    private static final class State {
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private long[] idMsb = new long[1024];
+        private long[] idLsb = new long[1024];
+        private byte[] status = new byte[1024];
+        private byte[] priority = new byte[1024];
+        private long[] dueMicros = new long[1024];
+        private long[] updatedMicros = new long[1024];
+        private int[] projectOf = new int[1024];
+        private int[] assigneeOf = new int[1024];
+        private int size;
+        
+        private final RoaringBitmap live = new RoaringBitmap();
+        private final RoaringBitmap noDue = new RoaringBitmap();
+        private final RoaringBitmap[] byStatus = new RoaringBitmap[TaskStatus.values().length];
+        private final Map<Integer, RoaringBitmap> byPriority = new HashMap<>();
+        private final Map<UUID, Integer> projectKeys = new HashMap<>();
+        private final List<RoaringBitmap> byProject = new ArrayList<>();
+        private final Map<String, Integer> assigneeKeys = new HashMap<>();
+        private final List<RoaringBitmap> byAssignee = new ArrayList<>();
+        
+        // Packed ((dueSecond + SECOND_OFFSET) << ORDINAL_BITS | ordinal), sorted; excludes ordinals in dirty
+        private long[] dueSorted = new long[0];
+        private final RoaringBitmap dirty = new RoaringBitmap();
+        
+        private State() {
+            for (int i = 0; i < byStatus.length; i++) {
+                byStatus[i] = new RoaringBitmap();
+            }
+        }
+        
+        private void upsert(Row row) {
+            Integer existing = ordinals.get(row.id());
+            int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                // Both local events and the change log deliver each write; only move forward in time
+                if (updatedMicros[ordinal] >= row.updatedMicros()) {
+                    return;
+                }
+                unindex(ordinal);
+            } else {
+                if (size > ORDINAL_MASK) {
+                    throw new IllegalStateException("Task filter index is full");
+                }
+                ordinal = size++;
+                grow();
+                ordinals.put(row.id(), ordinal);
+                idMsb[ordinal] = row.id().getMostSignificantBits();
+                idLsb[ordinal] = row.id().getLeastSignificantBits();
+            }
+            
+            status[ordinal] = (byte) TaskStatus.valueOf(row.status()).getCode();
+            priority[ordinal] = (byte) row.priority();
+            dueMicros[ordinal] = row.dueMicros();
+            updatedMicros[ordinal] = row.updatedMicros();
+            projectOf[ordinal] = key(projectKeys, byProject, row.projectId());
+            assigneeOf[ordinal] = key(assigneeKeys, byAssignee, row.assignee());
+            
+            live.add(ordinal);
+            byStatus[status[ordinal]].add(ordinal);
+            byPriority.computeIfAbsent(row.priority(), p -> new RoaringBitmap()).add(ordinal);
+            byProject.get(projectOf[ordinal]).add(ordinal);
+            byAssignee.get(assigneeOf[ordinal]).add(ordinal);
+            if (row.dueMicros() == NO_DUE) {
+                noDue.add(ordinal);
+            }
+            dirty.add(ordinal);
+        }
+        
+        private void remove(UUID id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                unindex(ordinal);
+                live.remove(ordinal);
+                dirty.add(ordinal);
+            }
+        }
+        
+        private List<UUID> idsOf(UUID projectId) {
+            Integer key = projectKeys.get(projectId);
+            List<UUID> ids = new ArrayList<>();
+            if (key != null) {
+                byProject.get(key).forEach((int ordinal) -> ids.add(new UUID(idMsb[ordinal], idLsb[ordinal])));
+            }
+            return ids;
+        }
+        
+        private void unindex(int ordinal) {
+            byStatus[status[ordinal]].remove(ordinal);
+            byPriority.get((int) priority[ordinal]).remove(ordinal);
+            byProject.get(projectOf[ordinal]).remove(ordinal);
+            byAssignee.get(assigneeOf[ordinal]).remove(ordinal);
+            noDue.remove(ordinal);
+        }
+        
+        private static <K> int key(Map<K, Integer> keys, List<RoaringBitmap> bitmaps, K value) {
+            return keys.computeIfAbsent(value, k -> {
+                bitmaps.add(new RoaringBitmap());
+                return bitmaps.size() - 1;
+            });
+        }
+        
+        private void grow() {
+            if (size <= idMsb.length) {
+                return;
+            }
+            int capacity = idMsb.length * 2;
+            idMsb = Arrays.copyOf(idMsb, capacity);
+            idLsb = Arrays.copyOf(idLsb, capacity);
+            status = Arrays.copyOf(status, capacity);
+            priority = Arrays.copyOf(priority, capacity);
+            dueMicros = Arrays.copyOf(dueMicros, capacity);
+            updatedMicros = Arrays.copyOf(updatedMicros, capacity);
+            projectOf = Arrays.copyOf(projectOf, capacity);
+            assigneeOf = Arrays.copyOf(assigneeOf, capacity);
+        }
+        
+        private void resortIfNeeded() {
+            if (dirty.getCardinality() > Math.max(4096, size / 32)) {
+                resort();
+            }
+        }
+        
+        private void resort() {
+            RoaringBitmap dated = RoaringBitmap.andNot(live, noDue);
+            long[] sorted = new long[dated.getCardinality()];
+            int[] position = {0};
+            dated.forEach((int ordinal) -> sorted[position[0]++] = pack(dueMicros[ordinal], ordinal));
+            Arrays.sort(sorted);
+            dueSorted = sorted;
+            dirty.clear();
+        }
+        
+        private void optimize() {
+            resort();
+            live.runOptimize();
+            noDue.runOptimize();
+            for (RoaringBitmap bitmap : byStatus) {
+                bitmap.runOptimize();
+            }
+            byPriority.values().forEach(RoaringBitmap::runOptimize);
+            byProject.forEach(RoaringBitmap::runOptimize);
+            byAssignee.forEach(RoaringBitmap::runOptimize);
+        }
+        
+        private static long second(long micros) {
+            long second = Math.floorDiv(micros, 1_000_000L);
+            return Math.min(Math.max(second, -SECOND_OFFSET), SECOND_OFFSET - 1);
+        }
+        
+        private static long pack(long micros, int ordinal) {
+            return ((second(micros) + SECOND_OFFSET) << ORDINAL_BITS) | ordinal;
+        }
+        
+        private RoaringBitmap select(TaskFilter filter) {
+            List<RoaringBitmap> parts = new ArrayList<>();
+            if (filter.getProjectId() != null) {
+                Integer key = projectKeys.get(filter.getProjectId());
+                if (key == null) {
+                    return new RoaringBitmap();
+                }
+                parts.add(byProject.get(key));
+            }
+            // Values within one dimension are alternatives, so their bitmaps are ORed first
+            if (filter.hasStatuses()) {
+                RoaringBitmap any = new RoaringBitmap();
+                for (short code : filter.statusCodes()) {
+                    any.or(byStatus[code]);
+                }
+                parts.add(any);
+            }
+            if (filter.hasPriorities()) {
+                RoaringBitmap any = new RoaringBitmap();
+                for (int value : filter.getPriorities()) {
+                    RoaringBitmap bitmap = byPriority.get(value);
+                    if (bitmap != null) {
+                        any.or(bitmap);
+                    }
+                }
+                parts.add(any);
+            }
+            if (filter.getAssignee() != null) {
+                Integer key = assigneeKeys.get(filter.getAssignee());
+                if (key == null) {
+                    return new RoaringBitmap();
+                }
+                parts.add(byAssignee.get(key));
+            }
+            
+            // Smallest first, so every intermediate result is as small as possible
+            parts.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+            RoaringBitmap result = parts.isEmpty() ? live.clone() : parts.get(0).clone();
+            for (int i = 1; i < parts.size(); i++) {
+                result.and(parts.get(i));
+            }
+            if (filter.getStartDate() != null || filter.getEndDate() != null) {
+                result.and(dueRange(filter.getStartDate(), filter.getEndDate()));
+            }
+            return result;
+        }
+        
+        // Ordinals due within [start, end], plus every task without a due date.
+        private RoaringBitmap dueRange(LocalDateTime start, LocalDateTime end) {
+            long from = start != null ? micros(start) : Long.MIN_VALUE;
+            long to = end != null ? micros(end) : Long.MAX_VALUE - 1;
+            int low = start != null ? lowerBound(pack(from, 0)) : 0;
+            int high = end != null ? lowerBound(pack(to, 0) + (1L << ORDINAL_BITS)) : dueSorted.length;
+            long firstSecond = second(from);
+            long lastSecond = second(to);
+            
+            int[] matched = new int[Math.max(0, high - low)];
+            int count = 0;
+            for (int i = low; i < high; i++) {
+                int ordinal = (int) (dueSorted[i] & ORDINAL_MASK);
+                if (dirty.contains(ordinal)) {
+                    continue;
+                }
+                // Keys only carry the second; rows in the boundary seconds are checked exactly
+                long second = (dueSorted[i] >>> ORDINAL_BITS) - SECOND_OFFSET;
+                if ((second == firstSecond || second == lastSecond)
+                        && (dueMicros[ordinal] < from || dueMicros[ordinal] > to)) {
+                    continue;
+                }
+                matched[count++] = ordinal;
+            }
+            Arrays.sort(matched, 0, count);
+            RoaringBitmap result = RoaringBitmap.bitmapOf(Arrays.copyOf(matched, count));
+            dirty.forEach((int ordinal) -> {
+                if (live.contains(ordinal) && dueMicros[ordinal] != NO_DUE
+                        && dueMicros[ordinal] >= from && dueMicros[ordinal] <= to) {
+                    result.add(ordinal);
+                }
+            });
+            result.or(noDue);
+            return result;
+        }
+        
+        private int lowerBound(long key) {
+            int index = Arrays.binarySearch(dueSorted, key);
+            return index >= 0 ? index : -index - 1;
+        }
+        
+        private Page page(RoaringBitmap matches, TaskSortField sortField, boolean descending, TaskCursor after, int limit) {
+            Comparator<Integer> order = (a, b) -> compare(sortField, a, b);
+            if (descending) {
+                order = order.reversed();
+            }
+            Comparator<Integer> pageOrder = order;
+            long cursorKey = after != null ? cursorKey(sortField, after.getValue()) : 0;
+            int cursorDirection = descending ? -1 : 1;
+            
+            // Bounded max-heap: keeps the first `limit` matches past the cursor without sorting them all
+            PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, pageOrder.reversed());
+            matches.forEach((int ordinal) -> {
+                if (after != null && cursorDirection * compareToCursor(sortField, ordinal, cursorKey, after.getId()) <= 0) {
+                    return;
+                }
+                if (heap.size() < limit) {
+                    heap.add(ordinal);
+                } else if (pageOrder.compare(ordinal, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(ordinal);
+                }
+            });
+            
+            List<Integer> ordered = new ArrayList<>(heap);
+            ordered.sort(pageOrder);
+            List<UUID> ids = new ArrayList<>(ordered.size());
+            for (int ordinal : ordered) {
+                ids.add(new UUID(idMsb[ordinal], idLsb[ordinal]));
+            }
+            return new Page(ids, matches.getLongCardinality());
+        }
+        
+        private List<UUID> all(RoaringBitmap matches, TaskSortField sortField, boolean descending) {
+            Stream<Integer> ordinals = Arrays.stream(matches.toArray()).boxed();
+            if (sortField != null) {
+                Comparator<Integer> order = (a, b) -> compare(sortField, a, b);
+                ordinals = ordinals.sorted(descending ? order.reversed() : order);
+            }
+            return ordinals.map(ordinal -> new UUID(idMsb[ordinal], idLsb[ordinal])).toList();
+        }
+        
+        private long sortKey(TaskSortField sortField, int ordinal) {
+            // NO_DUE is the largest key, so missing due dates sort last ascending and first descending, as in SQL
+            return sortField == TaskSortField.DUE_DATE ? dueMicros[ordinal] : priority[ordinal];
+        }
+        
+        private static long cursorKey(TaskSortField sortField, Object value) {
+            if (sortField == TaskSortField.DUE_DATE) {
+                return value != null ? micros((LocalDateTime) value) : NO_DUE;
+            }
+            return ((Integer) value).longValue();
+        }
+        
+        private int compare(TaskSortField sortField, int a, int b) {
+            int cmp = Long.compare(sortKey(sortField, a), sortKey(sortField, b));
+            return cmp != 0 ? cmp : compareIds(idMsb[a], idLsb[a], idMsb[b], idLsb[b]);
+        }
+        
+        private int compareToCursor(TaskSortField sortField, int ordinal, long cursorKey, UUID cursorId) {
+            int cmp = Long.compare(sortKey(sortField, ordinal), cursorKey);
+            return cmp != 0 ? cmp : compareIds(idMsb[ordinal], idLsb[ordinal],
+                cursorId.getMostSignificantBits(), cursorId.getLeastSignificantBits());
+        }
+        
+        private long bitmapBytes() {
+            long bytes = live.getLongSizeInBytes() + noDue.getLongSizeInBytes() + dirty.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : byStatus) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : byPriority.values()) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : byProject) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : byAssignee) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            return bytes;
+        }
+        
+        // Column arrays and the sorted due array, plus a rough 64 bytes per id-to-ordinal map entry
+        private long arrayBytes() {
+            long perOrdinal = 8 + 8 + 1 + 1 + 8 + 8 + 4 + 4;
+            return (long) idMsb.length * perOrdinal + dueSorted.length * 8L + ordinals.size() * 64L;
+        }
+    }
+}
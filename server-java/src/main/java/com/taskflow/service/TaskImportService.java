@@ -0,0 +1,481 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskflow.dto.CreateTaskRequest;
+import com.taskflow.dto.ImportJobResponse;
+import com.taskflow.event.TasksBulkChangedEvent;
+import com.taskflow.model.Task;
+import com.taskflow.model.Uuids;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskBulkInserter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of CSV or NDJSON uploads as background jobs.
+ * <p>
+ * The job thread streams records from the uploaded file and hands them in batches to a bounded
+ * parser pool, which validates them with the {@link CreateTaskRequest} constraints. Parsed
+ * batches are collected in submission order and written through {@link TaskBulkInserter}
+ * in transactions of {@value #WRITE_BATCH_SIZE} rows. Imports do not send per-task notifications.
+ */
+@Slf4j
+@Service
+public class TaskImportService {
+    
+    public enum Format {
+        CSV,
+        NDJSON;
+        
+        static Format detect(String format, String filename) {
+            String hint = format != null && !format.isBlank() ? format : filename;
+            if (hint == null) {
+                throw new IllegalArgumentException("Import format could not be determined");
+            }
+            String lower = hint.toLowerCase(Locale.ROOT);
+            if (lower.equals("csv") || lower.endsWith(".csv")) {
+                return CSV;
+            }
+            if (lower.equals("ndjson") || lower.equals("jsonl") || lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Unsupported import format: " + hint);
+        }
+    }
+    
+    private static final int PARSE_BATCH_SIZE = 1000;
+    private static final int WRITE_BATCH_SIZE = 5000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_RETAINED_JOBS = 50;
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+    
+    private final TaskBulkInserter bulkInserter;
+    private final ProjectRepository projectRepository;
+    private final ObjectReader createRequestReader;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    
+    private ExecutorService jobExecutor;
+    private ThreadPoolExecutor parserPool;
+    private int parserThreads;
+    
+    public TaskImportService(
+            TaskBulkInserter bulkInserter,
+            ProjectRepository projectRepository,
+            ObjectMapper objectMapper,
+            Validator validator,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.bulkInserter = bulkInserter;
+        this.projectRepository = projectRepository;
+        this.createRequestReader = objectMapper.readerFor(CreateTaskRequest.class);
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @PostConstruct
+    public void init() {
+        parserThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        // Bounded queue plus caller-runs keeps the reader from racing ahead of the parsers.
+        parserPool = new ThreadPoolExecutor(
+            parserThreads, parserThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(parserThreads * 2),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        jobExecutor = Executors.newFixedThreadPool(2);
+        log.info("✓ Task import pipeline initialized with {} parser workers", parserThreads);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        parserPool.shutdownNow();
+    }
+    
+    public ImportJobResponse startImport(MultipartFile file, String format) throws IOException {
+        Format importFormat = Format.detect(format, file.getOriginalFilename());
+        
+        // Moved out of the multipart temp location, which is cleaned up when the request ends.
+        Path upload = Files.createTempFile("taskflow-import-", "." + importFormat.name().toLowerCase(Locale.ROOT));
+        file.transferTo(upload);
+        
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), importFormat);
+        jobs.put(job.id, job);
+        evictFinishedJobs();
+        jobExecutor.submit(() -> run(job, upload));
+        return job.toResponse();
+    }
+    
+    public Optional<ImportJobResponse> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(ImportJob::toResponse);
+    }
+    
+    private void run(ImportJob job, Path upload) {
+        job.start();
+        log.info("Import {} started ({})", job.id, job.format);
+        try (BufferedReader reader = Files.newBufferedReader(upload, StandardCharsets.UTF_8)) {
+            RecordSource source = job.format == Format.CSV ? csvSource(reader) : ndjsonSource(reader);
+            runPipeline(job, source);
+            job.finish("COMPLETED", null);
+        } catch (Exception e) {
+            log.error("Import {} failed", job.id, e);
+            job.finish("FAILED", e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                log.warn("Could not delete import upload {}", upload);
+            }
+        }
+        ImportJobResponse result = job.toResponse();
+        log.info("Import {} {}: {} imported, {} rejected, {} rows/s",
+            job.id, result.getState(), result.getRowsImported(), result.getRowsRejected(), Math.round(result.getRowsPerSecond()));
+    }
+    
+    private void runPipeline(ImportJob job, RecordSource source) throws Exception {
+        Deque<Future<ParsedBatch>> inFlight = new ArrayDeque<>();
+        List<Task> writeBuffer = new ArrayList<>(WRITE_BATCH_SIZE);
+        List<RawRecord> batch = new ArrayList<>(PARSE_BATCH_SIZE);
+        
+        RawRecord record;
+        while ((record = source.next()) != null) {
+            job.rowsRead.incrementAndGet();
+            batch.add(record);
+            if (batch.size() == PARSE_BATCH_SIZE) {
+                List<RawRecord> toParse = batch;
+                inFlight.add(parserPool.submit(() -> parse(toParse, source.parser())));
+                batch = new ArrayList<>(PARSE_BATCH_SIZE);
+                if (inFlight.size() >= parserThreads * 2) {
+                    collect(job, inFlight.poll().get(), writeBuffer);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            List<RawRecord> toParse = batch;
+            inFlight.add(parserPool.submit(() -> parse(toParse, source.parser())));
+        }
+        while (!inFlight.isEmpty()) {
+            collect(job, inFlight.poll().get(), writeBuffer);
+        }
+        write(job, writeBuffer);
+    }
+    
+    private ParsedBatch parse(List<RawRecord> records, RowParser parser) {
+        List<Task> tasks = new ArrayList<>(records.size());
+        List<String> errors = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (RawRecord record : records) {
+            try {
+                tasks.add(toTask(parser.parse(record.payload()), now));
+            } catch (RowRejectedException e) {
+                errors.add("Row " + record.line() + ": " + e.getMessage());
+            }
+        }
+        return new ParsedBatch(tasks, errors);
+    }
+    
+    private Task toTask(CreateTaskRequest request, LocalDateTime now) {
+        Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new RowRejectedException(violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; ")));
+        }
+        Task task;
+        try {
+            task = TaskService.newTask(request);
+        } catch (DateTimeParseException e) {
+            throw new RowRejectedException("dueDate must be an ISO-8601 date-time");
+        }
+        // JPA callbacks do not run for bulk inserts, so fill in what Task.prePersist would.
+        task.setId(Uuids.timeOrdered());
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        return task;
+    }
+    
+    private void collect(ImportJob job, ParsedBatch parsed, List<Task> writeBuffer) {
+        job.rowsRejected.addAndGet(parsed.errors().size());
+        job.addErrors(parsed.errors());
+        writeBuffer.addAll(parsed.tasks());
+        if (writeBuffer.size() >= WRITE_BATCH_SIZE) {
+            write(job, writeBuffer);
+        }
+    }
+    
+    private void write(ImportJob job, List<Task> writeBuffer) {
+        if (writeBuffer.isEmpty()) {
+            return;
+        }
+        Map<UUID, Integer> rowsByProject = new HashMap<>();
+        for (Task task : writeBuffer) {
+            rowsByProject.merge(task.getProjectId(), 1, Integer::sum);
+        }
+        // Rows naming a project that does not exist are rejected rather than left for the orphan sweep
+        Set<UUID> projectIds = transactionTemplate.execute(status -> {
+            Set<UUID> existing = new HashSet<>(projectRepository.findExistingIds(rowsByProject.keySet()));
+            List<Task> accepted = existing.size() == rowsByProject.size()
+                    ? writeBuffer
+                    : writeBuffer.stream().filter(task -> existing.contains(task.getProjectId())).toList();
+            if (!accepted.isEmpty()) {
+                bulkInserter.insert(accepted);
+                eventPublisher.publishEvent(new TasksBulkChangedEvent(existing));
+            }
+            return existing;
+        });
+        
+        int imported = 0;
+        List<String> errors = new ArrayList<>();
+        for (Map.Entry<UUID, Integer> project : rowsByProject.entrySet()) {
+            if (projectIds.contains(project.getKey())) {
+                imported += project.getValue();
+            } else {
+                errors.add(project.getValue() + " row(s): projectId " + project.getKey() + " does not exist");
+            }
+        }
+        job.rowsRejected.addAndGet(writeBuffer.size() - imported);
+        job.addErrors(errors);
+        
+        long before = job.rowsImported.getAndAdd(imported);
+        if ((before + imported) / PROGRESS_LOG_INTERVAL > before / PROGRESS_LOG_INTERVAL) {
+            log.info("Import {}: {} rows imported", job.id, before + imported);
+        }
+        writeBuffer.clear();
+    }
+    
+    private RecordSource csvSource(BufferedReader reader) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        String[] header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            columns.put(normalizeColumn(header[i]), i);
+        }
+        
+        RowParser parser = payload -> {
+            String[] fields = (String[]) payload;
+            CreateTaskRequest request = new CreateTaskRequest();
+            String projectId = column(fields, columns, "projectid");
+            if (projectId != null) {
+                try {
+                    request.setProjectId(UUID.fromString(projectId.trim()));
+                } catch (IllegalArgumentException e) {
+                    throw new RowRejectedException("projectId must be a UUID");
+                }
+            }
+            request.setName(column(fields, columns, "name"));
+            request.setDescription(column(fields, columns, "description"));
+            request.setAssignee(column(fields, columns, "assignee"));
+            request.setStatus(column(fields, columns, "status"));
+            request.setDueDate(column(fields, columns, "duedate"));
+            String priority = column(fields, columns, "priority");
+            if (priority != null) {
+                try {
+                    request.setPriority(Integer.valueOf(priority.trim()));
+                } catch (NumberFormatException e) {
+                    throw new RowRejectedException("priority must be a number");
+                }
+            }
+            return request;
+        };
+        
+        return new RecordSource() {
+            @Override
+            public RawRecord next() throws IOException {
+                String[] fields = csv.next();
+                return fields != null ? new RawRecord(csv.getRecordNumber(), fields) : null;
+            }
+            
+            @Override
+            public RowParser parser() {
+                return parser;
+            }
+        };
+    }
+    
+    private RecordSource ndjsonSource(BufferedReader reader) {
+        RowParser parser = payload -> {
+            try {
+                return createRequestReader.readValue((String) payload);
+            } catch (JsonProcessingException e) {
+                throw new RowRejectedException("invalid JSON: " + e.getOriginalMessage());
+            }
+        };
+        
+        return new RecordSource() {
+            private long line;
+            
+            @Override
+            public RawRecord next() throws IOException {
+                String text;
+                while ((text = reader.readLine()) != null) {
+                    line++;
+                    if (!text.isBlank()) {
+                        return new RawRecord(line, text);
+                    }
+                }
+                return null;
+            }
+            
+            @Override
+            public RowParser parser() {
+                return parser;
+            }
+        };
+    }
+    
+    private static String normalizeColumn(String name) {
+        return name.trim().replace("_", "").replace("\uFEFF", "").toLowerCase(Locale.ROOT);
+    }
+    
+    private static String column(String[] fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.length || fields[index].isEmpty()) {
+            return null;
+        }
+        return fields[index];
+    }
+    
+    private void evictFinishedJobs() {
+        if (jobs.size() <= MAX_RETAINED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+            .filter(job -> job.finishedAt != null)
+            .sorted(Comparator.comparing(job -> job.finishedAt))
+            .limit(jobs.size() - MAX_RETAINED_JOBS)
+            .toList()
+            .forEach(job -> jobs.remove(job.id));
+    }
+    
+    private record RawRecord(long line, Object payload) {
+    }
+    
+    private record ParsedBatch(List<Task> tasks, List<String> errors) {
+    }
+    
+    @FunctionalInterface
+    private interface RowParser {
+        CreateTaskRequest parse(Object payload);
+    }
+    
+    private interface RecordSource {
+        RawRecord next() throws IOException;
+        
+        RowParser parser();
+    }
+    
+    private static class RowRejectedException extends RuntimeException {
+        RowRejectedException(String message) {
+            super(message);
+        }
+    }
+    
+    private static class ImportJob {
+        private final String id;
+        private final Format format;
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong rowsImported = new AtomicLong();
+        private final AtomicLong rowsRejected = new AtomicLong();
+        private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        private volatile String state = "QUEUED";
+        private volatile String message;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile long startNanos;
+        private volatile long finishNanos;
+        
+        ImportJob(String id, Format format) {
+            this.id = id;
+            this.format = format;
+        }
+        
+        void start() {
+            startedAt = LocalDateTime.now();
+            startNanos = System.nanoTime();
+            state = "RUNNING";
+        }
+        
+        void finish(String finalState, String failure) {
+            finishNanos = System.nanoTime();
+            message = failure;
+            finishedAt = LocalDateTime.now();
+            state = finalState;
+        }
+        
+        void addErrors(List<String> batchErrors) {
+            synchronized (errors) {
+                for (String error : batchErrors) {
+                    if (errors.size() >= MAX_REPORTED_ERRORS) {
+                        return;
+                    }
+                    errors.add(error);
+                }
+            }
+        }
+        
+        ImportJobResponse toResponse() {
+            double rowsPerSecond = 0;
+            if (startedAt != null) {
+                long end = finishedAt != null ? finishNanos : System.nanoTime();
+                double seconds = (end - startNanos) / 1_000_000_000.0;
+                rowsPerSecond = seconds > 0 ? rowsImported.get() / seconds : 0;
+            }
+            List<String> reportedErrors;
+            synchronized (errors) {
+                reportedErrors = errors.isEmpty() ? null : List.copyOf(errors);
+            }
+            return new ImportJobResponse(
+                id, state, format.name(), rowsRead.get(), rowsImported.get(), rowsRejected.get(),
+                rowsPerSecond, startedAt, finishedAt, message, reportedErrors
+            );
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskflow.service;
+
+import com.taskflow.event.ChangeType;
+import com.taskflow.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Snapshot of a task change as queued for delivery. It is copied from the entity at enqueue
+ * time, so later writes to the same managed entity do not leak into a pending notification.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskNotification {
+    private ChangeType type;
+    private UUID taskId;
+    private String assignee;
+    private String taskName;
+    private Integer priority;
+    private LocalDateTime dueDate;
+    private String status;
+    // Epoch millis, used for the delivery latency metric
+    private long enqueuedAt;
+    // Id of the outbox row this notification was relayed from
+    private String dedupKey;
+    
+    public static TaskNotification of(ChangeType type, Task task) {
+        return new TaskNotification(
+            type, task.getId(), task.getAssignee(), task.getName(), task.getPriority(),
+            task.getDueDate(), task.getStatus(), System.currentTimeMillis(), null
+        );
+    }
+}
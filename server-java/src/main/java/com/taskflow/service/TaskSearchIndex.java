@@ -0,0 +1,33 @@
+package com.taskflow.service;
+
+import com.taskflow.model.Task;
+import com.taskflow.repository.TaskFilter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Full-text search over task name and description. Every term is matched as a prefix and all
+ * terms must match; results are ordered by relevance, with name matches ranking above
+ * description matches. The implementation is chosen by {@code taskflow.search.engine}.
+ */
+public interface TaskSearchIndex {
+    
+    int MAX_TERMS = 8;
+    
+    List<Task> search(List<String> terms, TaskFilter filter, int limit);
+    
+    /**
+     * Lower-cased runs of letters and digits. Both engines index and query with this, so
+     * punctuation can never reach a query parser.
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+}
@@ -1,11 +1,32 @@
 package com.taskflow.service;
 
+import com.taskflow.config.CacheConfig;
+import com.taskflow.config.ReplicaRoutingDataSource;
 import com.taskflow.dto.CreateTaskRequest;
 import com.taskflow.dto.UpdateTaskRequest;
 import com.taskflow.dto.TasksResponse;
+import com.taskflow.event.TaskChangedEvent;
 import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.StatusTransition;
+import com.taskflow.repository.TaskCursor;
+import com.taskflow.repository.TaskDeleter;
+import com.taskflow.repository.TaskField;
+import com.taskflow.repository.TaskFilter;
 import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskSortField;
+import com.taskflow.repository.TaskStatusUpdater;
+import com.taskflow.repository.TaskView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,142 +35,423 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
     
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int DEFAULT_SEARCH_LIMIT = 50;
+    private static final int STATUS_UPDATE_ATTEMPTS = 3;
+    // Ids per query when an unpaged listing reads the rows the filter index chose
+    private static final int INDEX_LOAD_CHUNK_SIZE = 1000;
+    
     private final TaskRepository taskRepository;
-    private final NotificationService notificationService;
+    private final ProjectRepository projectRepository;
+    private final TaskDeleter taskDeleter;
+    private final TaskStatusUpdater taskStatusUpdater;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskFilterIndex taskFilterIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<CacheManager> cacheManager;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
     
     @Transactional(readOnly = true)
     public TasksResponse getTasks(
-            String projectId,
+            UUID projectId,
             String status,
             Integer priority,
+            String assignee,
             LocalDateTime startDate,
             LocalDateTime endDate,
             String sortBy,
             String sortOrder
     ) {
-        String sort = sortBy != null ? sortBy : "dueDate";
-        String order = sortOrder != null ? sortOrder : "asc";
+        return getTasks(projectId, status != null ? List.of(status) : null, priority != null ? List.of(priority) : null,
+            assignee, startDate, endDate, sortBy, sortOrder, null);
+    }
+    
+    /**
+     * Every matching task. A task matches if it has any of {@code statuses} and any of
+     * {@code priorities} (see {@link TaskFilter}). {@code fields} selects the columns to read
+     * (see {@link TaskField#parse}; the id is always among them); null reads whole tasks.
+     */
+    @Transactional(readOnly = true)
+    public TasksResponse getTasks(
+            UUID projectId,
+            List<String> statuses,
+            List<Integer> priorities,
+            String assignee,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String sortBy,
+            String sortOrder,
+            Set<TaskField> fields
+    ) {
+        // An unknown sortBy leaves the result unordered, as the old in-memory comparator did.
+        TaskSortField sortField = TaskSortField.fromParamOrNull(sortBy);
+        boolean descending = "desc".equalsIgnoreCase(sortOrder);
+        
+        TaskFilter filter = TaskFilter.anyOf(projectId, statuses, priorities, startDate, endDate);
+        filter.setAssignee(assignee);
+        Set<TaskField> selected = fields != null ? TaskField.withId(fields) : null;
+        Optional<List<UUID>> indexed = timed("list", "index", sortField, () -> taskFilterIndex.findAll(filter, sortField, descending));
+        if (indexed.isPresent()) {
+            List<?> tasks = timed("list", "load", sortField, () -> loadFromIndex(indexed.get(), filter, selected));
+            return new TasksResponse(tasks, tasks.size());
+        }
+        List<?> tasks = selected == null
+                ? timed("list", "query", sortField, () -> taskRepository.findTasks(filter, sortField, descending))
+                : timed("list", "query", sortField, () -> taskRepository.findTaskViews(filter, sortField, descending, null, null, selected));
+        
+        return new TasksResponse(tasks, tasks.size());
+    }
+    
+    /**
+     * A keyset page of tasks. {@code fields} selects the columns to read (the id and sort key are
+     * always among them, as the next cursor is built from them); null reads whole tasks.
+     */
+    @Transactional(readOnly = true)
+    public TasksResponse getTaskPage(
+            UUID projectId,
+            List<String> statuses,
+            List<Integer> priorities,
+            String assignee,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String sortBy,
+            String sortOrder,
+            Integer limit,
+            String cursor,
+            boolean includeTotal,
+            Set<TaskField> fields
+    ) {
+        TaskSortField sortField = TaskSortField.fromParam(sortBy);
+        boolean descending = "desc".equalsIgnoreCase(sortOrder);
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
         
-        List<Task> tasks = taskRepository.findTasksWithFilters(projectId, status, priority);
+        TaskCursor after = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            after = TaskCursor.decode(cursor);
+            if (after.getSortField() != sortField || after.isDescending() != descending) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort");
+            }
+        }
         
-        tasks = new ArrayList<>(tasks.stream()
-            .filter(task -> startDate == null || task.getDueDate() == null || !task.getDueDate().isBefore(startDate))
-            .filter(task -> endDate == null || task.getDueDate() == null || !task.getDueDate().isAfter(endDate))
-            .toList());
+        TaskFilter filter = TaskFilter.anyOf(projectId, statuses, priorities, startDate, endDate);
+        filter.setAssignee(assignee);
+        Set<TaskField> selected = fields != null ? TaskField.withSortKey(fields, sortField) : null;
         
-        tasks.sort((t1, t2) -> {
-            int comparison = 0;
-            switch (sort) {
-                case "priority":
-                    Integer p1 = t1.getPriority() != null ? t1.getPriority() : Integer.MAX_VALUE;
-                    Integer p2 = t2.getPriority() != null ? t2.getPriority() : Integer.MAX_VALUE;
-                    comparison = p1.compareTo(p2);
-                    break;
-                case "dueDate":
-                    LocalDateTime d1 = t1.getDueDate() != null ? t1.getDueDate() : LocalDateTime.MAX;
-                    LocalDateTime d2 = t2.getDueDate() != null ? t2.getDueDate() : LocalDateTime.MAX;
-                    comparison = d1.compareTo(d2);
-                    break;
-                case "name":
-                    String n1 = t1.getName() != null ? t1.getName() : "";
-                    String n2 = t2.getName() != null ? t2.getName() : "";
-                    comparison = n1.compareTo(n2);
-                    break;
+        // One extra row tells us whether another page exists without a count query.
+        Timer.Sample indexSample = Timer.start(meterRegistry);
+        Optional<TaskFilterIndex.Page> indexed = taskFilterIndex.findPage(filter, sortField, descending, after, pageSize + 1);
+        if (indexed.isPresent()) {
+            indexSample.stop(queryTimer("page", "index", sortField));
+            return selected != null
+                    ? viewPageFromIndex(indexed.get(), filter, sortField, descending, pageSize, includeTotal, selected)
+                    : pageFromIndex(indexed.get(), filter, sortField, descending, pageSize, includeTotal);
+        }
+        Timer.Sample querySample = Timer.start(meterRegistry);
+        List<?> tasks;
+        String nextCursor = null;
+        if (selected == null) {
+            List<Task> page = taskRepository.findTaskPage(filter, sortField, descending, after, pageSize + 1);
+            if (page.size() > pageSize) {
+                page = page.subList(0, pageSize);
+                nextCursor = TaskCursor.after(page.get(pageSize - 1), sortField, descending).encode();
             }
-            return "desc".equalsIgnoreCase(order) ? -comparison : comparison;
-        });
+            tasks = page;
+        } else {
+            List<TaskView> page = taskRepository.findTaskViews(filter, sortField, descending, after, pageSize + 1, selected);
+            if (page.size() > pageSize) {
+                page = page.subList(0, pageSize);
+                nextCursor = TaskCursor.after(page.get(pageSize - 1), sortField, descending).encode();
+            }
+            tasks = page;
+        }
+        querySample.stop(queryTimer("page", "query", sortField));
         
+        Long total = includeTotal ? timed("page", "count", sortField, () -> taskRepository.countTasks(filter)) : null;
+        return new TasksResponse(tasks, total, nextCursor);
+    }
+    
+    // Rows for ids the index chose, read in chunks and kept in the index's order. As for a page, rows
+    // that changed since and no longer match are dropped: here for whole tasks, in SQL for views.
+    private List<?> loadFromIndex(List<UUID> ids, TaskFilter filter, Set<TaskField> fields) {
+        List<Object> tasks = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += INDEX_LOAD_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + INDEX_LOAD_CHUNK_SIZE));
+            if (fields == null) {
+                Map<UUID, Task> byId = taskRepository.findAllById(chunk).stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+                chunk.stream().map(byId::get).filter(Objects::nonNull).filter(task -> TaskFilterIndex.matches(task, filter)).forEach(tasks::add);
+            } else {
+                Map<UUID, TaskView> byId = taskRepository.findTaskViewsById(chunk, filter, fields).stream()
+                        .collect(Collectors.toMap(TaskView::getId, Function.identity()));
+                chunk.stream().map(byId::get).filter(Objects::nonNull).forEach(tasks::add);
+            }
+        }
+        return tasks;
+    }
+    
+    // The index picks the page; only those rows are read. A row changed since the index saw it may no
+    // longer match, and is dropped rather than returned.
+    private TasksResponse pageFromIndex(
+            TaskFilterIndex.Page page,
+            TaskFilter filter,
+            TaskSortField sortField,
+            boolean descending,
+            int pageSize,
+            boolean includeTotal
+    ) {
+        List<UUID> ids = page.ids();
+        boolean hasMore = ids.size() > pageSize;
+        if (hasMore) {
+            ids = ids.subList(0, pageSize);
+        }
+        Timer.Sample loadSample = Timer.start(meterRegistry);
+        Map<UUID, Task> byId = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        loadSample.stop(queryTimer("page", "load", sortField));
+        List<Task> ordered = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        String nextCursor = hasMore && !ordered.isEmpty()
+                ? TaskCursor.after(ordered.get(ordered.size() - 1), sortField, descending).encode()
+                : null;
+        List<Task> tasks = ordered.stream().filter(task -> TaskFilterIndex.matches(task, filter)).toList();
+        return new TasksResponse(tasks, includeTotal ? page.total() : null, nextCursor);
+    }
+    
+    // As pageFromIndex, but the filter is re-checked in SQL since the rows lack the columns to do it here.
+    // The cursor comes from the last row that still matched; rows after it on this page no longer do.
+    private TasksResponse viewPageFromIndex(
+            TaskFilterIndex.Page page,
+            TaskFilter filter,
+            TaskSortField sortField,
+            boolean descending,
+            int pageSize,
+            boolean includeTotal,
+            Set<TaskField> fields
+    ) {
+        List<UUID> ids = page.ids();
+        boolean hasMore = ids.size() > pageSize;
+        if (hasMore) {
+            ids = ids.subList(0, pageSize);
+        }
+        Timer.Sample loadSample = Timer.start(meterRegistry);
+        Map<UUID, TaskView> byId = taskRepository.findTaskViewsById(ids, filter, fields).stream()
+                .collect(Collectors.toMap(TaskView::getId, Function.identity()));
+        loadSample.stop(queryTimer("page", "load", sortField));
+        List<TaskView> tasks = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        String nextCursor = hasMore && !tasks.isEmpty()
+                ? TaskCursor.after(tasks.get(tasks.size() - 1), sortField, descending).encode()
+                : null;
+        return new TasksResponse(tasks, includeTotal ? page.total() : null, nextCursor);
+    }
+    
+    @Transactional(readOnly = true)
+    public TasksResponse searchTasks(String q, UUID projectId, String status, Integer priority, Integer limit) {
+        List<String> terms = TaskSearchIndex.tokenize(q);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("q must contain a word");
+        }
+        int maxResults = limit != null ? limit : DEFAULT_SEARCH_LIMIT;
+        if (maxResults < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        // An unknown status matches nothing, as it does for GET /api/tasks.
+        if (status != null && !TaskStatus.isValid(status)) {
+            return new TasksResponse(List.of(), 0);
+        }
+        
+        TaskFilter filter = new TaskFilter(projectId, status, priority, null, null);
+        List<String> searchTerms = terms.subList(0, Math.min(terms.size(), TaskSearchIndex.MAX_TERMS));
+        List<Task> tasks = taskSearchIndex.search(searchTerms, filter, Math.min(maxResults, MAX_PAGE_SIZE));
         return new TasksResponse(tasks, tasks.size());
     }
     
+    @Cacheable(cacheNames = CacheConfig.TASK, key = "#id", unless = "#result == null")
     @Transactional(readOnly = true)
-    public Optional<Task> getTaskById(String id) {
-        return taskRepository.findById(id);
+    public Optional<Task> getTaskById(UUID id) {
+        // A lagging replica would put an old row in the cache, where it stays until the task is written again
+        return cacheManager.getIfAvailable() != null
+                ? ReplicaRoutingDataSource.onPrimary(() -> taskRepository.findById(id))
+                : taskRepository.findById(id);
     }
     
     @Transactional
     public Task createTask(CreateTaskRequest request) {
-        Task task = new Task();
-        task.setProjectId(request.getProjectId());
-        task.setName(request.getName());
-        task.setDescription(request.getDescription());
-        task.setPriority(request.getPriority());
-        task.setAssignee(request.getAssignee());
-        task.setStatus(request.getStatus());
-        
-        LocalDateTime dueDate = parseIsoDate(request.getDueDate());
-        task.setDueDate(dueDate);
+        requireProject(request.getProjectId());
+        Task task = newTask(request);
         
+        // The notification is written to the outbox by a listener, in this transaction.
         Task savedTask = taskRepository.save(task);
-        
-        notificationService.sendTaskCreatedNotification(savedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask));
         
         return savedTask;
     }
     
     @Transactional
-    public Optional<Task> updateTask(String id, UpdateTaskRequest request) {
+    public Optional<Task> updateTask(UUID id, UpdateTaskRequest request) {
         return taskRepository.findById(id).map(task -> {
-            if (request.getProjectId() != null) {
-                task.setProjectId(request.getProjectId());
-            }
-            if (request.getName() != null) {
-                task.setName(request.getName());
-            }
-            if (request.getDescription() != null) {
-                task.setDescription(request.getDescription());
-            }
-            if (request.getPriority() != null) {
-                task.setPriority(request.getPriority());
-            }
-            if (request.getAssignee() != null) {
-                task.setAssignee(request.getAssignee());
+            UUID previousProjectId = task.getProjectId();
+            String previousStatus = task.getStatus();
+            TaskStatusConflictException.Reason conflict = conflictOf(task, request);
+            if (conflict != null) {
+                throw new TaskStatusConflictException(conflict, task);
             }
-            if (request.getStatus() != null) {
-                task.setStatus(request.getStatus());
-            }
-            if (request.getDueDate() != null) {
-                if (request.getDueDate().trim().isEmpty()) {
-                    task.setDueDate(null);
-                } else {
-                    LocalDateTime dueDate = parseIsoDate(request.getDueDate());
-                    task.setDueDate(dueDate);
-                }
+            if (request.getProjectId() != null && !request.getProjectId().equals(previousProjectId)) {
+                requireProject(request.getProjectId());
             }
             
+            // A write landing after this read still fails at flush on the @Version check
+            applyUpdate(task, request);
+            
             Task updatedTask = taskRepository.save(task);
-            notificationService.sendTaskUpdatedNotification(updatedTask);
+            eventPublisher.publishEvent(TaskChangedEvent.updated(previousProjectId, previousStatus, updatedTask));
             
             return updatedTask;
         });
     }
     
     @Transactional
-    public boolean deleteTask(String id) {
-        if (taskRepository.existsById(id)) {
-            taskRepository.deleteById(id);
+    public boolean deleteTask(UUID id) {
+        return taskDeleter.delete(id).map(task -> {
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(task.getId(), task.getProjectId(), task.getStatus()));
             return true;
-        }
-        return false;
+        }).orElse(false);
     }
     
+    /**
+     * Moves a task to {@code status} with a single conditional UPDATE. {@code expectedVersion},
+     * when given, must match the task's version. Empty if the task does not exist; the
+     * unchanged task if it already has that status.
+     *
+     * @throws TaskStatusConflictException if the transition is not allowed or the version is stale
+     */
     @Transactional
-    public Optional<Task> updateTaskStatus(String id, String status) {
-        return taskRepository.findById(id).map(task -> {
-            task.setStatus(status);
-            Task updatedTask = taskRepository.save(task);
-            notificationService.sendTaskUpdatedNotification(updatedTask);
-            return updatedTask;
-        });
+    public Optional<Task> updateTaskStatus(UUID id, String status, Long expectedVersion) {
+        TaskStatus target = TaskStatus.valueOf(status);
+        for (int attempt = 1; ; attempt++) {
+            Optional<StatusTransition> transition = taskStatusUpdater.transition(id, target, expectedVersion);
+            if (transition.isPresent()) {
+                Task task = transition.get().getTask();
+                eventPublisher.publishEvent(TaskChangedEvent.updated(task.getProjectId(), transition.get().getPreviousStatus(), task));
+                return Optional.of(task);
+            }
+            
+            // Nothing matched; only now is the row read, to tell the caller why
+            Optional<Task> current = taskRepository.findById(id);
+            if (current.isEmpty() || current.get().getStatus().equals(status)) {
+                return current;
+            }
+            Task task = current.get();
+            if (!TaskStatus.valueOf(task.getStatus()).canTransitionTo(target)) {
+                throw new TaskStatusConflictException(TaskStatusConflictException.Reason.TRANSITION_NOT_ALLOWED, task);
+            }
+            if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+                throw new TaskStatusConflictException(TaskStatusConflictException.Reason.VERSION_MISMATCH, task);
+            }
+            // Changed concurrently between the update and the read; without an expected version, try again
+            if (attempt == STATUS_UPDATE_ATTEMPTS) {
+                throw new TaskStatusConflictException(TaskStatusConflictException.Reason.VERSION_MISMATCH, task);
+            }
+            entityManager.detach(task);
+        }
+    }
+    
+    private void requireProject(UUID projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new UnknownProjectException(projectId);
+        }
+    }
+    
+    static Task newTask(CreateTaskRequest request) {
+        Task task = new Task();
+        task.setProjectId(request.getProjectId());
+        task.setName(request.getName());
+        task.setDescription(request.getDescription());
+        task.setPriority(request.getPriority());
+        task.setAssignee(request.getAssignee());
+        task.setStatus(request.getStatus());
+        
+        LocalDateTime dueDate = parseIsoDate(request.getDueDate());
+        task.setDueDate(dueDate);
+        return task;
+    }
+    
+    /** Why {@code request} cannot be applied to {@code task} as it is now, or null if it can. */
+    static TaskStatusConflictException.Reason conflictOf(Task task, UpdateTaskRequest request) {
+        if (request.getVersion() != null && !request.getVersion().equals(task.getVersion())) {
+            return TaskStatusConflictException.Reason.VERSION_MISMATCH;
+        }
+        if (request.getStatus() != null && !request.getStatus().equals(task.getStatus())
+                && !TaskStatus.valueOf(task.getStatus()).canTransitionTo(TaskStatus.valueOf(request.getStatus()))) {
+            return TaskStatusConflictException.Reason.TRANSITION_NOT_ALLOWED;
+        }
+        return null;
+    }
+    
+    static void applyUpdate(Task task, UpdateTaskRequest request) {
+        if (request.getProjectId() != null) {
+            task.setProjectId(request.getProjectId());
+        }
+        if (request.getName() != null) {
+            task.setName(request.getName());
+        }
+        if (request.getDescription() != null) {
+            task.setDescription(request.getDescription());
+        }
+        if (request.getPriority() != null) {
+            task.setPriority(request.getPriority());
+        }
+        if (request.getAssignee() != null) {
+            task.setAssignee(request.getAssignee());
+        }
+        if (request.getStatus() != null) {
+            task.setStatus(request.getStatus());
+        }
+        if (request.getDueDate() != null) {
+            if (request.getDueDate().trim().isEmpty()) {
+                task.setDueDate(null);
+            } else {
+                LocalDateTime dueDate = parseIsoDate(request.getDueDate());
+                task.setDueDate(dueDate);
+            }
+        }
+    }
+    
+    // Query phases behind GET /api/tasks: query (filter and sort in the database), index (page chosen by
+    // the in-memory filter index), load (rows for an index page) and count (includeTotal)
+    private <T> T timed(String operation, String phase, TaskSortField sortField, Supplier<T> query) {
+        return queryTimer(operation, phase, sortField).record(query);
+    }
+    
+    private Timer queryTimer(String operation, String phase, TaskSortField sortField) {
+        return Timer.builder("taskflow.tasks.query")
+                .description("Task list query phases")
+                .tag("operation", operation)
+                .tag("phase", phase)
+                .tag("sort", sortField != null ? sortField.getProperty() : "none")
+                .register(meterRegistry);
     }
     
-    private LocalDateTime parseIsoDate(String dateString) {
+    static LocalDateTime parseIsoDate(String dateString) {
         if (dateString == null || dateString.trim().isEmpty()) {
             return null;
         }
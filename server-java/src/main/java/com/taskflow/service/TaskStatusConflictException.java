@@ -0,0 +1,26 @@
+package com.taskflow.service;
+
+import com.taskflow.model.Task;
+import lombok.Getter;
+
+/**
+ * A task update that could not be applied: the task's current status does not allow the new
+ * one, or the task changed since the version the client based its request on.
+ */
+@Getter
+public class TaskStatusConflictException extends RuntimeException {
+    
+    public enum Reason {
+        TRANSITION_NOT_ALLOWED,
+        VERSION_MISMATCH
+    }
+    
+    private final Reason reason;
+    private final Task current;
+    
+    public TaskStatusConflictException(Reason reason, Task current) {
+        super(reason + " for task " + current.getId());
+        this.reason = reason;
+        this.current = current;
+    }
+}
@@ -0,0 +1,147 @@
+package com.taskflow.service;
+
+import com.taskflow.config.ReplicaRoutingDataSource;
+import com.taskflow.dto.TaskChangesResponse;
+import com.taskflow.model.ChangeLogEntry;
+import com.taskflow.model.Task;
+import com.taskflow.repository.ChangeLogRepository;
+import com.taskflow.repository.TaskCursor;
+import com.taskflow.repository.TaskFilter;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskSortField;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Delta sync over {@code tasks.updated_at}, with tombstones taken from {@code change_log}.
+ * <p>
+ * A sync token holds the instant the next sync starts from, plus a keyset cursor while a sync
+ * is still paging. That instant is always {@link #OVERLAP} behind the server clock, so a
+ * transaction that stamped its rows before the query but committed after it is picked up next
+ * time; rows in the overlap are simply sent twice. A missing token, or one older than the change
+ * log retention, starts a full resync.
+ */
+@Service
+public class TaskSyncService {
+    
+    private static final Duration OVERLAP = Duration.ofSeconds(10);
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+    private static final int MAX_PAGE_SIZE = 5000;
+    private static final String SEPARATOR = "\n";
+    
+    // Without a cursor, since is where this sync starts; with one, where the following sync will start
+    private record SyncToken(LocalDateTime since, TaskCursor cursor) {
+    }
+    
+    private final TaskRepository taskRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final Duration retention;
+    
+    public TaskSyncService(
+            TaskRepository taskRepository,
+            ChangeLogRepository changeLogRepository,
+            @Value("${taskflow.changes.retention:7d}") Duration retention
+    ) {
+        this.taskRepository = taskRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.retention = retention;
+    }
+    
+    // On the primary: the next token moves past whatever this read misses, so a replica more than
+    // OVERLAP behind would lose those rows for good
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getChanges(UUID projectId, String since, Integer limit) {
+        return ReplicaRoutingDataSource.onPrimary(() -> changes(projectId, since, limit));
+    }
+    
+    private TaskChangesResponse changes(UUID projectId, String since, Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
+        
+        LocalDateTime now = LocalDateTime.now();
+        SyncToken token = since != null && !since.isEmpty() ? decode(since) : null;
+        TaskFilter filter = new TaskFilter();
+        filter.setProjectId(projectId);
+        TaskCursor after = null;
+        LocalDateTime nextSince;
+        boolean reset = false;
+        List<UUID> deleted = List.of();
+        List<UUID> deletedProjects = List.of();
+        
+        if (token != null && token.cursor() != null) {
+            // Continuing a sync: the cursor already lies past the starting instant
+            after = token.cursor();
+            filter.setUpdatedSince((LocalDateTime) after.getValue());
+            nextSince = token.since();
+        } else if (token == null || token.since().isBefore(now.minus(retention))) {
+            // Tombstones older than the retention may have been pruned, so start over
+            reset = true;
+            nextSince = now.minus(OVERLAP);
+        } else {
+            filter.setUpdatedSince(token.since());
+            nextSince = token.since().isAfter(now.minus(OVERLAP)) ? token.since() : now.minus(OVERLAP);
+            Set<UUID> deletedTasks = new LinkedHashSet<>();
+            Set<UUID> deletedProjectIds = new LinkedHashSet<>();
+            List<ChangeLogEntry> removals = projectId != null
+                    ? changeLogRepository.findRemovalsSince(token.since(), projectId)
+                    : changeLogRepository.findDeletionsSince(token.since());
+            for (ChangeLogEntry entry : removals) {
+                (ChangeLogEntry.PROJECT.equals(entry.getEntityType()) ? deletedProjectIds : deletedTasks).add(entry.getEntityId());
+            }
+            deleted = new ArrayList<>(deletedTasks);
+            deletedProjects = new ArrayList<>(deletedProjectIds);
+        }
+        
+        // One extra row tells us whether another page exists without a count query.
+        List<Task> tasks = taskRepository.findTaskPage(filter, TaskSortField.UPDATED_AT, false, after, pageSize + 1);
+        boolean hasMore = tasks.size() > pageSize;
+        TaskCursor next = null;
+        if (hasMore) {
+            tasks = tasks.subList(0, pageSize);
+            next = TaskCursor.after(tasks.get(pageSize - 1), TaskSortField.UPDATED_AT, false);
+        }
+        return new TaskChangesResponse(tasks, deleted, deletedProjects, reset, hasMore, encode(nextSince, next));
+    }
+    
+    private static String encode(LocalDateTime nextSince, TaskCursor cursor) {
+        String raw = nextSince + SEPARATOR + (cursor != null ? cursor.encode() : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed sync token");
+            }
+            LocalDateTime since = LocalDateTime.parse(parts[0]);
+            if (parts[1].isEmpty()) {
+                return new SyncToken(since, null);
+            }
+            TaskCursor cursor = TaskCursor.decode(parts[1]);
+            if (cursor.getSortField() != TaskSortField.UPDATED_AT || cursor.isDescending()) {
+                throw new IllegalArgumentException("Malformed sync token");
+            }
+            return new SyncToken(since, cursor);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed sync token", e);
+        }
+    }
+}
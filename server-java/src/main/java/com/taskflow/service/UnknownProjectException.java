@@ -0,0 +1,20 @@
+package com.taskflow.service;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * A task write naming a project that does not exist. Rejected up front, as the orphan sweep
+ * would otherwise delete the task once the project's id turned up as deleted.
+ */
+@Getter
+public class UnknownProjectException extends RuntimeException {
+    
+    private final UUID projectId;
+    
+    public UnknownProjectException(UUID projectId) {
+        super("Project " + projectId + " does not exist");
+        this.projectId = projectId;
+    }
+}
@@ -0,0 +1,288 @@
+package com.taskflow.service;
+
+import com.taskflow.config.ReplicaRoutingConfig;
+import com.taskflow.config.ReplicaRoutingDataSource;
+import com.taskflow.event.ProjectChangedEvent;
+import com.taskflow.event.ProjectTasksPurgedEvent;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TasksBulkChangedEvent;
+import com.taskflow.model.ProjectVersion;
+import com.taskflow.repository.ProjectVersionRepository;
+import com.taskflow.repository.ProjectVersionWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-memory copy of the per-project write counters in {@code project_versions}, used to answer
+ * conditional GETs without a query.
+ * <p>
+ * Every transaction that changes a project or its tasks bumps each affected project's row once,
+ * just before commit and in a fixed id order. The writing node applies the new values after
+ * commit; other nodes pick them up by polling rows updated recently, so their ETags may lag a
+ * remote write by up to {@code taskflow.versions.poll-interval-ms}. Versions only grow, so
+ * merging with {@code max} makes repeated or overlapping reads harmless. The global version is
+ * the sum over all projects.
+ * <p>
+ * A version is only published once the state served under it has caught up: locally after the
+ * after-commit listeners ordered {@link #INVALIDATION_ORDER}, remotely after every
+ * {@link ChangeLogFollower} has polled. Otherwise a reader could pair the new ETag with the old
+ * body and keep it through 304s until the next write.
+ * <p>
+ * Bodies read from a replica may trail those versions; {@link #read} labels them with the
+ * version the replica had applied instead.
+ */
+@Slf4j
+@Component
+public class VersionTracker {
+    
+    // Rows are re-read this far back so a slow commit, or a clock difference between nodes, is not missed.
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(10);
+    private static final Duration FULL_RELOAD_INTERVAL = Duration.ofMinutes(5);
+    
+    /** Order for after-commit listeners that update state served under a version ETag; they run before the version moves. */
+    public static final int INVALIDATION_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+    
+    private final ProjectVersionRepository versionRepository;
+    private final ProjectVersionWriter versionWriter;
+    private final ObjectProvider<ChangeLogFollower> followers;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean replicated;
+    private final boolean enabled;
+    private final ConcurrentHashMap<UUID, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong globalVersion = new AtomicLong();
+    private volatile boolean ready;
+    private volatile LocalDateTime lastPoll;
+    private volatile LocalDateTime lastFullReload;
+    
+    public VersionTracker(
+            ProjectVersionRepository versionRepository,
+            ProjectVersionWriter versionWriter,
+            ObjectProvider<ChangeLogFollower> followers,
+            PlatformTransactionManager transactionManager,
+            DataSource dataSource,
+            @Value("${taskflow.versions.enabled:true}") boolean enabled
+    ) {
+        this.versionRepository = versionRepository;
+        this.versionWriter = versionWriter;
+        this.followers = followers;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.replicated = ReplicaRoutingConfig.routing(dataSource) != null;
+        this.enabled = enabled;
+    }
+    
+    public boolean isReady() {
+        return enabled && ready;
+    }
+    
+    public long getGlobalVersion() {
+        return globalVersion.get();
+    }
+    
+    public long getVersion(UUID projectId) {
+        return versions.getOrDefault(projectId, 0L);
+    }
+    
+    /** The global version for null, otherwise the sum over {@code projectIds}, which grows whenever one of them changes. */
+    public long getVersion(Collection<UUID> projectIds) {
+        if (projectIds == null) {
+            return getGlobalVersion();
+        }
+        long version = 0;
+        for (UUID projectId : projectIds) {
+            version += getVersion(projectId);
+        }
+        return version;
+    }
+    
+    /**
+     * Runs {@code body} in one read-only transaction, which may go to a replica, and returns it
+     * with a version it is known to include (see {@link #getVersion(Collection)} for
+     * {@code projectIds}). Database reads are at least as new as the versions the transaction
+     * read before them; in-memory state is at least as new as this node's versions; the lower
+     * of the two therefore holds for the whole body. Without replicas, or with this thread
+     * pinned to the primary, this node's version is used without a query.
+     */
+    public <T> Versioned<T> read(Collection<UUID> projectIds, Supplier<T> body) {
+        long known = getVersion(projectIds);
+        if (!isReady() || !replicated || ReplicaRoutingDataSource.isPinnedToPrimary()) {
+            return new Versioned<>(known, body.get());
+        }
+        return readOnlyTransaction.execute(status -> {
+            long applied = projectIds == null ? versionRepository.sumVersions()
+                    : projectIds.isEmpty() ? 0 : versionRepository.sumVersions(projectIds);
+            return new Versioned<>(Math.min(known, applied), body.get());
+        });
+    }
+    
+    /**
+     * Strong ETag for a response derived from {@code version}; {@code parts} are the request
+     * parameters that select the representation. Null when versions are not loaded yet.
+     */
+    public String etag(String prefix, long version, Object... parts) {
+        if (!isReady()) {
+            return null;
+        }
+        return "\"" + prefix + version + "-" + Integer.toHexString(Arrays.deepHashCode(parts)) + "\"";
+    }
+    
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        touch(event.getPreviousProjectId());
+        if (event.getTask() != null) {
+            touch(event.getTask().getProjectId());
+        }
+    }
+    
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        touch(event.getProjectId());
+    }
+    
+    @EventListener
+    public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+        event.getProjectIds().forEach(this::touch);
+    }
+    
+    @EventListener
+    public void onProjectTasksPurged(ProjectTasksPurgedEvent event) {
+        touch(event.getProjectId());
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            reloadAll();
+            log.info("✓ Project versions loaded for {} project(s)", versions.size());
+        }
+    }
+    
+    @Scheduled(
+        initialDelayString = "${taskflow.versions.poll-interval-ms:1000}",
+        fixedDelayString = "${taskflow.versions.poll-interval-ms:1000}"
+    )
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (!ready || lastFullReload.isBefore(now.minus(FULL_RELOAD_INTERVAL))) {
+                reloadAll();
+                return;
+            }
+            Map<UUID, Long> read = new HashMap<>();
+            for (ProjectVersion row : versionRepository.findByUpdatedAtGreaterThanEqual(lastPoll.minus(POLL_OVERLAP))) {
+                read.put(row.getProjectId(), row.getVersion());
+            }
+            // Each write counted in these rows committed its change_log row with them, so the followers see it now
+            followers.orderedStream().forEach(ChangeLogFollower::poll);
+            apply(read);
+            lastPoll = now;
+        } catch (Exception e) {
+            log.error("Project version poll failed", e);
+        }
+    }
+    
+    private void reloadAll() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<UUID, Long> read = new HashMap<>();
+        for (ProjectVersion row : versionRepository.findAll()) {
+            read.put(row.getProjectId(), row.getVersion());
+        }
+        if (ready) {
+            followers.orderedStream().forEach(ChangeLogFollower::poll);
+        }
+        apply(read);
+        lastPoll = now;
+        lastFullReload = now;
+        ready = true;
+    }
+    
+    private void apply(Map<UUID, Long> committed) {
+        committed.forEach(this::raise);
+    }
+    
+    private void raise(UUID projectId, long version) {
+        versions.compute(projectId, (id, current) -> {
+            if (current != null && current >= version) {
+                return current;
+            }
+            globalVersion.addAndGet(version - (current != null ? current : 0L));
+            return version;
+        });
+    }
+    
+    private void touch(UUID projectId) {
+        if (!enabled || projectId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(versionWriter.increment(Set.of(projectId)));
+            return;
+        }
+        PendingBumps pending = (PendingBumps) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingBumps();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.projectIds.add(projectId);
+    }
+    
+    public record Versioned<T>(long version, T body) {
+    }
+    
+    /**
+     * Collects the projects touched by one transaction so each row is bumped once, as late as
+     * possible, to keep the row locks short.
+     */
+    private final class PendingBumps implements TransactionSynchronization {
+        // Sorted so that all writers lock version rows in the same order
+        private final Set<UUID> projectIds = new TreeSet<>();
+        private Map<UUID, Long> committed;
+        
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            committed = versionWriter.increment(projectIds);
+        }
+        
+        // After-commit listeners run in afterCompletion too; ordering last lets INVALIDATION_ORDER ones go first
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+        
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(VersionTracker.this);
+            if (status == STATUS_COMMITTED && committed != null) {
+                apply(committed);
+            }
+        }
+    }
+}
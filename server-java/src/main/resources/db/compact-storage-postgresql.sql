@@ -0,0 +1,60 @@
+-- Converts tables created before the compact storage format: varchar ids become native uuid
+-- columns and status/priority become smallint codes (see TaskStatus). Runs before Hibernate's
+-- schema update on every start and only touches columns that still have the old type, so it
+-- is a no-op on fresh and already migrated databases. Statements use a custom separator because
+-- the DO blocks contain semicolons.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'projects'
+                 AND column_name = 'id' AND data_type <> 'uuid') THEN
+        ALTER TABLE projects ALTER COLUMN id TYPE uuid USING id::uuid;
+        RAISE NOTICE 'projects.id converted to uuid';
+    END IF;
+END
+$$
+^^^
+
+DO $$
+DECLARE
+    unknown_statuses bigint;
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'tasks'
+                 AND column_name = 'id' AND data_type <> 'uuid') THEN
+        ALTER TABLE tasks ALTER COLUMN id TYPE uuid USING id::uuid;
+        RAISE NOTICE 'tasks.id converted to uuid';
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'tasks'
+                 AND column_name = 'project_id' AND data_type <> 'uuid') THEN
+        ALTER TABLE tasks ALTER COLUMN project_id TYPE uuid USING project_id::uuid;
+        RAISE NOTICE 'tasks.project_id converted to uuid';
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'tasks'
+                 AND column_name = 'status' AND data_type <> 'smallint') THEN
+        -- Statuses outside the supported set were never reachable through the API's create path.
+        UPDATE tasks SET status = 'PENDING'
+        WHERE status NOT IN ('PENDING', 'IN_PROGRESS', 'COMPLETED');
+        GET DIAGNOSTICS unknown_statuses = ROW_COUNT;
+        IF unknown_statuses > 0 THEN
+            RAISE NOTICE '% task(s) with an unknown status reset to PENDING', unknown_statuses;
+        END IF;
+        ALTER TABLE tasks ALTER COLUMN status TYPE smallint USING
+            CASE status WHEN 'PENDING' THEN 0 WHEN 'IN_PROGRESS' THEN 1 WHEN 'COMPLETED' THEN 2 END;
+        RAISE NOTICE 'tasks.status converted to smallint codes';
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'tasks'
+                 AND column_name = 'priority' AND data_type <> 'smallint') THEN
+        ALTER TABLE tasks ALTER COLUMN priority TYPE smallint USING priority::smallint;
+        RAISE NOTICE 'tasks.priority converted to smallint';
+    END IF;
+END
+$$
+^^^
@@ -0,0 +1,22 @@
+-- Widens the JSON payload columns of change_log and notification_outbox from the varchar(4000)
+-- they were first created with to unbounded text, so a task or project with a long description
+-- cannot fail its own write. Hibernate's schema update never changes a column's type. A no-op
+-- on fresh and already migrated databases.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'change_log'
+                 AND column_name = 'payload' AND data_type <> 'text') THEN
+        ALTER TABLE change_log ALTER COLUMN payload TYPE text;
+        RAISE NOTICE 'change_log.payload widened to text';
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'notification_outbox'
+                 AND column_name = 'payload' AND data_type <> 'text') THEN
+        ALTER TABLE notification_outbox ALTER COLUMN payload TYPE text;
+        RAISE NOTICE 'notification_outbox.payload widened to text';
+    END IF;
+END
+$$
@@ -0,0 +1,10 @@
+-- Full-text search column and index for tasks, applied at startup once Hibernate has created the table.
+-- The 'simple' configuration does no stemming, so prefix queries match what users actually typed.
+-- Names are weighted A and descriptions B so that ts_rank_cd ranks name matches first.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search ON tasks USING gin (search_vector);
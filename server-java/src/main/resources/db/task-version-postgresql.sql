@@ -0,0 +1,17 @@
+-- Adds the optimistic locking column to tasks created before Task had @Version. Runs before
+-- Hibernate's schema update, which would otherwise add it as a NOT NULL column without a
+-- default and fail on a non-empty table. A no-op on fresh and already migrated databases.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables
+               WHERE table_schema = current_schema() AND table_name = 'tasks')
+       AND NOT EXISTS (SELECT 1 FROM information_schema.columns
+                       WHERE table_schema = current_schema() AND table_name = 'tasks'
+                         AND column_name = 'version') THEN
+        ALTER TABLE tasks ADD COLUMN version bigint NOT NULL DEFAULT 0;
+        RAISE NOTICE 'tasks.version added';
+    END IF;
+END
+$$
+^^^
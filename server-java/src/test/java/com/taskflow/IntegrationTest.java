@@ -0,0 +1,86 @@
+package com.taskflow;
+
+import com.taskflow.dto.CreateProjectRequest;
+import com.taskflow.dto.CreateTaskRequest;
+import com.taskflow.model.Task;
+import com.taskflow.repository.TaskFilter;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.service.ProjectService;
+import com.taskflow.service.TaskService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * The whole application on a private in-memory H2 database (the local profile), with MockMvc
+ * in front of it. Background pollers run once an hour, so tests drive them by hand. Test
+ * classes with the same settings share one context and database, so each test works in
+ * projects of its own; classes that change settings get a context and database of their own.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:taskflow-test-${random.uuid};DB_CLOSE_DELAY=-1",
+    "taskflow.cache.poll-interval-ms=3600000",
+    "taskflow.changes.poll-interval-ms=3600000",
+    "taskflow.changes.heartbeat-interval-ms=3600000",
+    "taskflow.versions.poll-interval-ms=3600000",
+    "taskflow.filter-index.poll-interval-ms=3600000",
+    "taskflow.notifications.outbox.poll-interval-ms=3600000",
+    "taskflow.stats.poll-interval-ms=3600000",
+    "taskflow.stats.reconcile-interval-ms=3600000",
+    "taskflow.projects.orphan-sweep-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+public abstract class IntegrationTest {
+    
+    @Autowired
+    protected ProjectService projectService;
+    
+    @Autowired
+    protected TaskService taskService;
+    
+    @Autowired
+    protected TaskRepository taskRepository;
+    
+    @Autowired
+    protected MockMvc mockMvc;
+    
+    protected UUID createProject() {
+        CreateProjectRequest request = new CreateProjectRequest();
+        request.setName("Project " + UUID.randomUUID());
+        return projectService.createProject(request).getId();
+    }
+    
+    protected Task createTask(UUID projectId, String status, int priority, String dueDate) {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setProjectId(projectId);
+        request.setName("Task " + UUID.randomUUID());
+        request.setPriority(priority);
+        request.setAssignee("test@example.com");
+        request.setStatus(status);
+        request.setDueDate(dueDate);
+        return taskService.createTask(request);
+    }
+    
+    protected long countTasks(UUID projectId) {
+        return taskRepository.countTasks(new TaskFilter(projectId, null, null, null, null));
+    }
+    
+    protected static void awaitTrue(BooleanSupplier condition, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within " + timeout);
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.taskflow.config;
+
+import com.taskflow.dto.DataSourceRoutingResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing between two separate in-memory H2 databases, each holding a row that names it, so
+ * every read shows which one served it.
+ */
+class ReplicaRoutingDataSourceTest {
+    
+    private HikariDataSource primaryPool;
+    private HikariDataSource replicaPool;
+    private ReplicaRoutingDataSource routing;
+    private LazyConnectionDataSourceProxy dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    
+    @BeforeEach
+    void setUp() {
+        primaryPool = database("primary");
+        replicaPool = database("replica");
+        routing = new ReplicaRoutingDataSource(primaryPool, List.of(replicaPool), Duration.ofSeconds(10));
+        dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.unpin();
+        routing.close();
+    }
+    
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertThat(read(readOnly)).isEqualTo("replica");
+        assertThat(routing.getStats().getReplicas().get(0).getConnectionsServed()).isEqualTo(1);
+    }
+    
+    @Test
+    void writesAndReadsOutsideTransactionsGoToThePrimary() {
+        assertThat(read(readWrite)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM marker", String.class)).isEqualTo("primary");
+        assertThat(routing.getStats().getReplicas().get(0).getConnectionsServed()).isZero();
+    }
+    
+    @Test
+    void pinnedReadsGoToThePrimaryUntilThePinEnds() {
+        assertThat(ReplicaRoutingDataSource.onPrimary(() -> read(readOnly))).isEqualTo("primary");
+        assertThat(routing.getStats().getPinnedReads()).isEqualTo(1);
+        
+        assertThat(read(readOnly)).isEqualTo("replica");
+    }
+    
+    @Test
+    void nestedPinLeavesTheEnclosingPinInPlace() {
+        ReplicaRoutingDataSource.pinToPrimary();
+        ReplicaRoutingDataSource.onPrimary(() -> read(readOnly));
+        
+        assertThat(read(readOnly)).isEqualTo("primary");
+        ReplicaRoutingDataSource.unpin();
+        assertThat(read(readOnly)).isEqualTo("replica");
+    }
+    
+    @Test
+    void fallsBackToThePrimaryWhenTheReplicaIsDown() {
+        replicaPool.close();
+        
+        assertThat(read(readOnly)).isEqualTo("primary");
+        DataSourceRoutingResponse stats = routing.getStats();
+        assertThat(stats.getFallbacks()).isEqualTo(1);
+        assertThat(stats.getReplicas().get(0).isHealthy()).isFalse();
+        
+        // Out of rotation: the next read goes straight to the primary without trying the replica
+        assertThat(read(readOnly)).isEqualTo("primary");
+        assertThat(routing.getStats().getFallbacks()).isEqualTo(2);
+    }
+    
+    @Test
+    void healthCheckKeepsAWorkingReplicaInRotation() {
+        routing.checkHealth();
+        
+        assertThat(routing.getStats().getReplicas().get(0).isHealthy()).isTrue();
+        // H2 reports no replication lag
+        assertThat(routing.getStats().getReplicas().get(0).getLagSeconds()).isNull();
+        assertThat(read(readOnly)).isEqualTo("replica");
+    }
+    
+    @Test
+    void readYourWritesKeepsAWritingClientOnThePrimary() {
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(dataSource, new ReplicaProperties());
+        
+        MockHttpServletRequest write = new MockHttpServletRequest("PATCH", "/api/tasks/1");
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        interceptor.preHandle(write, writeResponse, null);
+        interceptor.afterCompletion(write, writeResponse, null, null);
+        String setCookie = writeResponse.getHeader(HttpHeaders.SET_COOKIE);
+        assertThat(setCookie).startsWith(ReadYourWritesInterceptor.COOKIE_NAME + "=");
+        String until = setCookie.substring(setCookie.indexOf('=') + 1, setCookie.indexOf(';'));
+        
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", "/api/tasks");
+        read.setCookies(new Cookie(ReadYourWritesInterceptor.COOKIE_NAME, until));
+        MockHttpServletResponse readResponse = new MockHttpServletResponse();
+        interceptor.preHandle(read, readResponse, null);
+        assertThat(read(readOnly)).isEqualTo("primary");
+        interceptor.afterCompletion(read, readResponse, null, null);
+        
+        assertThat(read(readOnly)).isEqualTo("replica");
+    }
+    
+    @Test
+    void expiredReadYourWritesCookieIsIgnored() {
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(dataSource, new ReplicaProperties());
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", "/api/tasks");
+        read.setCookies(new Cookie(ReadYourWritesInterceptor.COOKIE_NAME, Long.toString(System.currentTimeMillis() - 1000)));
+        
+        interceptor.preHandle(read, new MockHttpServletResponse(), null);
+        
+        assertThat(read(readOnly)).isEqualTo("replica");
+    }
+    
+    private String read(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+    
+    private static HikariDataSource database(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(2);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(pool);
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+        return pool;
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskflow.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskflow.IntegrationTest;
+import com.taskflow.service.VersionTracker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A "replica" pool on the primary's own database. Lag is simulated by setting a project's stored
+ * version below the one this node already published, which is what a lagging replica reports.
+ */
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:taskflow-replicated;DB_CLOSE_DELAY=-1",
+    "taskflow.datasource.replicas[0].url=jdbc:h2:mem:taskflow-replicated;DB_CLOSE_DELAY=-1",
+    "taskflow.datasource.replicas[0].username=sa",
+    "taskflow.datasource.health-check-interval-ms=3600000"
+})
+class ReplicaReadTest extends IntegrationTest {
+    
+    @Autowired
+    private VersionTracker versionTracker;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void versionedListingIsServedByTheReplica() throws Exception {
+        UUID projectId = createProject();
+        createTask(projectId, "PENDING", 1, null);
+        long served = replicaReads();
+        
+        mockMvc.perform(get("/api/tasks").param("projectId", projectId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.total").value(1));
+        
+        assertThat(replicaReads()).isGreaterThan(served);
+    }
+    
+    @Test
+    void laggingReplicaYieldsTheVersionItHasApplied() throws Exception {
+        UUID projectId = createProject();
+        long published = versionTracker.getVersion(projectId);
+        jdbcTemplate.update("UPDATE project_versions SET version = version - 1 WHERE project_id = ?", projectId);
+        String behind = versionTracker.etag("p", published - 1, projectId);
+        
+        mockMvc.perform(get("/api/projects/{id}", projectId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, behind));
+        // Still behind: the body read again carries the same ETag, so the client's copy stands
+        mockMvc.perform(get("/api/projects/{id}", projectId).header(HttpHeaders.IF_NONE_MATCH, behind))
+                .andExpect(status().isNotModified());
+        
+        jdbcTemplate.update("UPDATE project_versions SET version = version + 1 WHERE project_id = ?", projectId);
+        String current = versionTracker.etag("p", published, projectId);
+        mockMvc.perform(get("/api/projects/{id}", projectId).header(HttpHeaders.IF_NONE_MATCH, behind))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, current));
+        mockMvc.perform(get("/api/projects/{id}", projectId).header(HttpHeaders.IF_NONE_MATCH, current))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, current));
+    }
+    
+    private long replicaReads() throws Exception {
+        String body = mockMvc.perform(get("/api/diagnostics/datasource"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.<List<Integer>>read(body, "$.replicas[*].connectionsServed").stream()
+                .mapToLong(Integer::longValue)
+                .sum();
+    }
+}
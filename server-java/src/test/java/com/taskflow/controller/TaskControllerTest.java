@@ -0,0 +1,101 @@
+package com.taskflow.controller;
+
+import com.taskflow.IntegrationTest;
+import com.taskflow.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TaskControllerTest extends IntegrationTest {
+    
+    @Test
+    void updateWithTheCurrentVersionApplies() throws Exception {
+        Task task = createTask(createProject(), "PENDING", 1, null);
+        
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"IN_PROGRESS\", \"version\": " + task.getVersion() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.version").value(task.getVersion() + 1));
+    }
+    
+    @Test
+    void updateWithAStaleVersionIsAConflictShowingTheCurrentTask() throws Exception {
+        Task task = createTask(createProject(), "PENDING", 1, null);
+        patchStatus(task.getId(), "{\"status\": \"IN_PROGRESS\"}");
+        
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Lost update\", \"version\": " + task.getVersion() + "}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.reason").value("VERSION_MISMATCH"))
+                .andExpect(jsonPath("$.current.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.current.version").value(task.getVersion() + 1));
+    }
+    
+    @Test
+    void completedTaskCanBeReopenedAsPending() throws Exception {
+        Task viaStatus = createTask(createProject(), "COMPLETED", 1, null);
+        patchStatus(viaStatus.getId(), "{\"status\": \"PENDING\"}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+        
+        Task viaUpdate = createTask(createProject(), "COMPLETED", 1, null);
+        mockMvc.perform(patch("/api/tasks/{id}", viaUpdate.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"PENDING\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+    
+    @Test
+    void updateWithAPriorityOutOfRangeIsRejected() throws Exception {
+        Task task = createTask(createProject(), "PENDING", 1, null);
+        
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"priority\": 40000}"))
+                .andExpect(status().isBadRequest());
+        
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operations\": [{\"op\": \"update\", \"id\": \"" + task.getId() + "\", \"update\": {\"priority\": 0}}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(0))
+                .andExpect(jsonPath("$.results[0].status").value(400));
+    }
+    
+    @Test
+    void batchUpdateWithAStaleVersionFailsOnlyThatOperation() throws Exception {
+        UUID projectId = createProject();
+        Task stale = createTask(projectId, "PENDING", 1, null);
+        Task fresh = createTask(projectId, "PENDING", 1, null);
+        patchStatus(stale.getId(), "{\"status\": \"IN_PROGRESS\"}");
+        
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operations\": ["
+                                + "{\"op\": \"update\", \"id\": \"" + stale.getId() + "\", \"update\": {\"status\": \"COMPLETED\", \"version\": " + stale.getVersion() + "}},"
+                                + "{\"op\": \"update\", \"id\": \"" + fresh.getId() + "\", \"update\": {\"status\": \"COMPLETED\", \"version\": " + fresh.getVersion() + "}}"
+                                + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(409))
+                .andExpect(jsonPath("$.results[0].error").value("VERSION_MISMATCH"))
+                .andExpect(jsonPath("$.results[1].status").value(200));
+    }
+    
+    private ResultActions patchStatus(UUID id, String body) throws Exception {
+        return mockMvc.perform(patch("/api/tasks/{id}/status", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+}
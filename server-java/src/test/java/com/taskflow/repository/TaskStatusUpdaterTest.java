@@ -0,0 +1,77 @@
+package com.taskflow.repository;
+
+import com.taskflow.IntegrationTest;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskStatusUpdaterTest extends IntegrationTest {
+    
+    @Autowired
+    private TaskStatusUpdater taskStatusUpdater;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Test
+    void transitionReturnsTheUpdatedTaskAndItsPreviousStatus() {
+        Task task = createTask(createProject(), "PENDING", 2, "2026-11-01T00:00:00");
+        
+        Optional<StatusTransition> transition = transition(task.getId(), TaskStatus.IN_PROGRESS, task.getVersion());
+        
+        assertThat(transition).isPresent();
+        assertThat(transition.get().getPreviousStatus()).isEqualTo("PENDING");
+        Task updated = transition.get().getTask();
+        assertThat(updated.getStatus()).isEqualTo("IN_PROGRESS");
+        assertThat(updated.getVersion()).isEqualTo(task.getVersion() + 1);
+        assertThat(updated.getName()).isEqualTo(task.getName());
+        
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo("IN_PROGRESS");
+        assertThat(stored.getVersion()).isEqualTo(updated.getVersion());
+        assertThat(stored.getUpdatedAt()).isEqualTo(updated.getUpdatedAt());
+    }
+    
+    @Test
+    void staleVersionMatchesNothingAndLeavesTheRowAlone() {
+        Task task = createTask(createProject(), "PENDING", 2, null);
+        transition(task.getId(), TaskStatus.IN_PROGRESS, null);
+        
+        assertThat(transition(task.getId(), TaskStatus.COMPLETED, task.getVersion())).isEmpty();
+        
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo("IN_PROGRESS");
+        assertThat(stored.getVersion()).isEqualTo(task.getVersion() + 1);
+    }
+    
+    @Test
+    void sameStatusAndMissingTaskMatchNothing() {
+        Task task = createTask(createProject(), "COMPLETED", 2, null);
+        
+        assertThat(transition(task.getId(), TaskStatus.COMPLETED, null)).isEmpty();
+        assertThat(transition(UUID.randomUUID(), TaskStatus.COMPLETED, null)).isEmpty();
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getVersion()).isEqualTo(task.getVersion());
+    }
+    
+    @Test
+    void completedTaskCanGoBackToPending() {
+        Task task = createTask(createProject(), "COMPLETED", 2, null);
+        
+        Optional<StatusTransition> transition = transition(task.getId(), TaskStatus.PENDING, null);
+        
+        assertThat(transition).isPresent();
+        assertThat(transition.get().getPreviousStatus()).isEqualTo("COMPLETED");
+    }
+    
+    private Optional<StatusTransition> transition(UUID id, TaskStatus target, Long expectedVersion) {
+        return new TransactionTemplate(transactionManager).execute(status -> taskStatusUpdater.transition(id, target, expectedVersion));
+    }
+}
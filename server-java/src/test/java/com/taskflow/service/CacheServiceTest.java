@@ -0,0 +1,88 @@
+package com.taskflow.service;
+
+import com.taskflow.IntegrationTest;
+import com.taskflow.model.ChangeLogEntry;
+import com.taskflow.model.Project;
+import com.taskflow.model.Task;
+import com.taskflow.repository.ChangeLogRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes from "another node" are made straight in the database together with the change_log
+ * row that node would have written, so only the poll can tell this node's caches about them.
+ */
+class CacheServiceTest extends IntegrationTest {
+    
+    @Autowired
+    private CacheService cacheService;
+    
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void remoteTaskUpdateIsEvictedByThePoll() {
+        UUID projectId = createProject();
+        Task task = createTask(projectId, "PENDING", 1, null);
+        assertThat(taskService.getTaskById(task.getId())).get().extracting(Task::getName).isEqualTo(task.getName());
+        
+        jdbcTemplate.update("UPDATE tasks SET name = 'Renamed elsewhere' WHERE id = ?", task.getId());
+        logRemoteChange(ChangeLogEntry.TASK, "UPDATED", task.getId(), projectId);
+        assertThat(taskService.getTaskById(task.getId())).get().extracting(Task::getName).isEqualTo(task.getName());
+        
+        cacheService.poll();
+        
+        assertThat(taskService.getTaskById(task.getId())).get().extracting(Task::getName).isEqualTo("Renamed elsewhere");
+    }
+    
+    @Test
+    void remoteProjectUpdateIsEvictedFromBothProjectCaches() {
+        UUID projectId = createProject();
+        assertThat(projectService.getProjectById(projectId)).isPresent();
+        assertThat(projectService.getAllProjects()).extracting(Project::getId).contains(projectId);
+        
+        jdbcTemplate.update("UPDATE projects SET name = 'Renamed elsewhere' WHERE id = ?", projectId);
+        logRemoteChange(ChangeLogEntry.PROJECT, "UPDATED", projectId, projectId);
+        cacheService.poll();
+        
+        assertThat(projectService.getProjectById(projectId)).get().extracting(Project::getName).isEqualTo("Renamed elsewhere");
+        assertThat(projectService.getAllProjects()).filteredOn(project -> project.getId().equals(projectId))
+                .extracting(Project::getName)
+                .containsExactly("Renamed elsewhere");
+    }
+    
+    @Test
+    void remoteProjectDeleteEvictsItsCachedTasks() {
+        UUID projectId = createProject();
+        Task task = createTask(projectId, "PENDING", 1, null);
+        Task unrelated = createTask(createProject(), "PENDING", 1, null);
+        // The poll reads this node's own rows too; consume them first so only the remote delete evicts below
+        cacheService.poll();
+        assertThat(taskService.getTaskById(task.getId())).isPresent();
+        assertThat(taskService.getTaskById(unrelated.getId())).isPresent();
+        
+        // Purged tasks are not logged one by one
+        jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+        logRemoteChange(ChangeLogEntry.PROJECT, "DELETED", projectId, projectId);
+        jdbcTemplate.update("UPDATE tasks SET name = 'Not evicted' WHERE id = ?", unrelated.getId());
+        cacheService.poll();
+        
+        assertThat(taskService.getTaskById(task.getId())).isEmpty();
+        assertThat(projectService.getProjectById(projectId)).isEmpty();
+        assertThat(taskService.getTaskById(unrelated.getId())).get().extracting(Task::getName).isEqualTo(unrelated.getName());
+    }
+    
+    private void logRemoteChange(String entityType, String changeType, UUID entityId, UUID projectId) {
+        changeLogRepository.save(new ChangeLogEntry(null, entityType, changeType, entityId, projectId, null, null, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,135 @@
+package com.taskflow.service;
+
+import com.taskflow.IntegrationTest;
+import com.taskflow.model.ChangeLogEntry;
+import com.taskflow.model.Task;
+import com.taskflow.model.Uuids;
+import com.taskflow.repository.ChangeLogRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class ChangeFeedServiceTest extends IntegrationTest {
+    
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    
+    @Autowired
+    private ChangeFeedService changeFeedService;
+    
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void resumesAfterLastEventIdWithOnlyTheMissedChanges() throws Exception {
+        UUID projectId = createProject();
+        Task first = createTask(projectId, "PENDING", 1, null);
+        Task second = createTask(projectId, "PENDING", 2, null);
+        Task third = createTask(projectId, "PENDING", 3, null);
+        confirmAll();
+        long firstId = sequenceOf(first.getId());
+        
+        MockHttpServletResponse stream = subscribe(get("/api/changes").header("Last-Event-ID", firstId));
+        
+        awaitTrue(() -> content(stream).contains("id:" + sequenceOf(third.getId()) + "\n"), TIMEOUT);
+        String events = content(stream);
+        assertThat(events).contains("id:" + sequenceOf(second.getId()) + "\n");
+        assertThat(events).doesNotContain("id:" + firstId + "\n");
+        assertThat(events.indexOf(second.getId().toString())).isLessThan(events.indexOf(third.getId().toString()));
+    }
+    
+    @Test
+    void resumedStreamContinuesWithLiveChanges() throws Exception {
+        UUID projectId = createProject();
+        Task before = createTask(projectId, "PENDING", 1, null);
+        confirmAll();
+        
+        MockHttpServletResponse stream = subscribe(get("/api/changes")
+                .param("projectId", projectId.toString())
+                .header("Last-Event-ID", sequenceOf(before.getId()) - 1));
+        awaitTrue(() -> content(stream).contains(before.getId().toString()), TIMEOUT);
+        
+        Task after = createTask(projectId, "IN_PROGRESS", 1, null);
+        Task elsewhere = createTask(createProject(), "PENDING", 1, null);
+        // A row is only sent once the next poll confirms nothing below it is still committing
+        changeFeedService.poll();
+        changeFeedService.poll();
+        
+        awaitTrue(() -> content(stream).contains("id:" + sequenceOf(after.getId()) + "\n"), TIMEOUT);
+        assertThat(content(stream)).doesNotContain(elsewhere.getId().toString());
+    }
+    
+    @Test
+    void resumingBehindTheRetainedLogAsksForAResync() throws Exception {
+        UUID projectId = createProject();
+        Task pruned = createTask(projectId, "PENDING", 1, null);
+        createTask(projectId, "PENDING", 1, null);
+        confirmAll();
+        long prunedId = sequenceOf(pruned.getId());
+        jdbcTemplate.update("DELETE FROM change_log WHERE id <= ?", prunedId);
+        
+        MockHttpServletResponse stream = subscribe(get("/api/changes").header("Last-Event-ID", prunedId - 1));
+        
+        awaitTrue(() -> content(stream).contains("event:resync"), TIMEOUT);
+    }
+    
+    @Test
+    void storesAndStreamsPayloadsLongerThanAVarchar() throws Exception {
+        confirmAll();
+        long before = changeLogRepository.findMaxId();
+        String description = "x".repeat(20_000);
+        UUID id = Uuids.timeOrdered();
+        changeLogRepository.save(new ChangeLogEntry(null, ChangeLogEntry.PROJECT, "CREATED", id, id, null,
+                "{\"id\":\"" + id + "\",\"description\":\"" + description + "\"}", LocalDateTime.now()));
+        confirmAll();
+        
+        MockHttpServletResponse stream = subscribe(get("/api/changes").header("Last-Event-ID", before));
+        
+        awaitTrue(() -> content(stream).contains(description), TIMEOUT);
+    }
+    
+    private MockHttpServletResponse subscribe(MockHttpServletRequestBuilder changes) throws Exception {
+        MvcResult result = mockMvc.perform(changes)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return result.getResponse();
+    }
+    
+    // Two polls move the feed's confirmed position past everything committed so far
+    private void confirmAll() {
+        changeFeedService.poll();
+        changeFeedService.poll();
+    }
+    
+    private long sequenceOf(UUID entityId) {
+        List<ChangeLogEntry> rows = changeLogRepository.findAfter(0, PageRequest.of(0, Integer.MAX_VALUE));
+        return rows.stream()
+                .filter(row -> row.getEntityId().equals(entityId))
+                .mapToLong(ChangeLogEntry::getId)
+                .min()
+                .orElseThrow();
+    }
+    
+    private static String content(MockHttpServletResponse response) {
+        try {
+            return response.getContentAsString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskflow.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** {@link TaskPagingTest} with every page chosen by the filter index instead of SQL. */
+@TestPropertySource(properties = "taskflow.filter-index.enabled=true")
+class FilterIndexTaskPagingTest extends TaskPagingTest {
+    
+    @Autowired
+    private TaskFilterIndex taskFilterIndex;
+    
+    private long fallbacksBefore;
+    
+    private long hitsBefore;
+    
+    private boolean servedBySql;
+    
+    @BeforeEach
+    void awaitIndex() throws InterruptedException {
+        awaitTrue(taskFilterIndex::isReady, Duration.ofSeconds(10));
+        fallbacksBefore = taskFilterIndex.getStats().getFallbacks();
+        hitsBefore = taskFilterIndex.getStats().getHits();
+    }
+    
+    // The index does not order by name, so every page falls back to SQL
+    @Override
+    @Test
+    void cursorsWalkNameOrderThroughDuplicateNames() {
+        servedBySql = true;
+        super.cursorsWalkNameOrderThroughDuplicateNames();
+    }
+    
+    @AfterEach
+    void noPageFellBackToSql() {
+        if (servedBySql) {
+            assertThat(taskFilterIndex.getStats().getFallbacks()).isGreaterThan(fallbacksBefore);
+            return;
+        }
+        assertThat(taskFilterIndex.getStats().getFallbacks()).isEqualTo(fallbacksBefore);
+        assertThat(taskFilterIndex.getStats().getHits()).isGreaterThan(hitsBefore);
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskflow.service;
+
+import com.taskflow.IntegrationTest;
+import com.taskflow.dto.ProjectStatsResponse;
+import com.taskflow.model.ChangeLogEntry;
+import com.taskflow.model.Task;
+import com.taskflow.repository.ChangeLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Writes from "another node" are made straight in the database with the change_log row that node would write. */
+class ProjectStatsReconcilerTest extends IntegrationTest {
+    
+    @Autowired
+    private ProjectStatsReconciler projectStatsReconciler;
+    
+    @Autowired
+    private ProjectStatsStore projectStatsStore;
+    
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void awaitStore() throws InterruptedException {
+        awaitTrue(projectStatsStore::isReady, Duration.ofSeconds(10));
+    }
+    
+    @Test
+    void remoteTaskWritesReachTheCountersOnThePoll() {
+        UUID projectId = createProject();
+        Task kept = createTask(projectId, "PENDING", 1, null);
+        Task deleted = createTask(projectId, "IN_PROGRESS", 1, null);
+        assertThat(stats(projectId).getTotalTasks()).isEqualTo(2);
+        
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", deleted.getId());
+        logRemoteChange(ChangeLogEntry.TASK, "DELETED", deleted.getId(), projectId);
+        assertThat(stats(projectId).getTotalTasks()).isEqualTo(2);
+        
+        projectStatsReconciler.poll();
+        
+        ProjectStatsResponse stats = stats(projectId);
+        assertThat(stats.getTotalTasks()).isEqualTo(1);
+        assertThat(stats.getPendingTasks()).isEqualTo(1);
+        assertThat(stats.getInProgressTasks()).isZero();
+        assertThat(taskRepository.findById(kept.getId())).isPresent();
+    }
+    
+    @Test
+    void remoteBulkWritesReachTheCountersOnThePoll() {
+        UUID projectId = createProject();
+        createTask(projectId, "PENDING", 1, null);
+        createTask(projectId, "PENDING", 2, null);
+        
+        jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", projectId);
+        logRemoteChange(ChangeLogEntry.PROJECT, "BULK", projectId, projectId);
+        projectStatsReconciler.poll();
+        
+        assertThat(stats(projectId).getTotalTasks()).isZero();
+    }
+    
+    private ProjectStatsResponse stats(UUID projectId) {
+        return projectService.getProjectStatsBulk(List.of(projectId)).get(projectId);
+    }
+    
+    private void logRemoteChange(String entityType, String changeType, UUID entityId, UUID projectId) {
+        changeLogRepository.save(new ChangeLogEntry(null, entityType, changeType, entityId, projectId, null, null, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,146 @@
+package com.taskflow.service;
+
+import com.taskflow.IntegrationTest;
+import com.taskflow.dto.UpdateTaskRequest;
+import com.taskflow.event.ProjectChangedEvent;
+import com.taskflow.model.Task;
+import com.taskflow.model.Uuids;
+import com.taskflow.repository.DeletedTask;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskBulkInserter;
+import com.taskflow.repository.TaskDeleter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestPropertySource(properties = "taskflow.projects.delete-chunk-size=10")
+class ProjectTaskPurgerTest extends IntegrationTest {
+    
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    
+    @Autowired
+    private ProjectTaskPurger projectTaskPurger;
+    
+    @Autowired
+    private TaskDeleter taskDeleter;
+    
+    @Autowired
+    private TaskBulkInserter taskBulkInserter;
+    
+    @Autowired
+    private ProjectRepository projectRepository;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Test
+    void deleteProjectChunkDeletesAtMostTheLimitAndReportsEachRow() {
+        UUID projectId = createProject();
+        for (int i = 0; i < 5; i++) {
+            createTask(projectId, "IN_PROGRESS", 2, null);
+        }
+        
+        List<DeletedTask> first = new TransactionTemplate(transactionManager).execute(status -> taskDeleter.deleteProjectChunk(projectId, 3));
+        assertThat(first).hasSize(3).allSatisfy(task -> {
+            assertThat(task.getProjectId()).isEqualTo(projectId);
+            assertThat(task.getStatus()).isEqualTo("IN_PROGRESS");
+        });
+        
+        List<DeletedTask> rest = new TransactionTemplate(transactionManager).execute(status -> taskDeleter.deleteProjectChunk(projectId, 3));
+        assertThat(rest).hasSize(2);
+        assertThat(countTasks(projectId)).isZero();
+    }
+    
+    @Test
+    void deletingAProjectDeletesTheFirstChunkAtOnceAndTheRestAfterCommit() throws InterruptedException {
+        UUID projectId = createProject();
+        for (int i = 0; i < 25; i++) {
+            createTask(projectId, "PENDING", 1, null);
+        }
+        
+        Integer inTransaction = new TransactionTemplate(transactionManager).execute(status -> {
+            int deleted = projectTaskPurger.purge(projectId);
+            // The background purge only starts once this transaction commits
+            assertThat(countTasks(projectId)).isEqualTo(15);
+            return deleted;
+        });
+        
+        assertThat(inTransaction).isEqualTo(10);
+        awaitTrue(() -> countTasks(projectId) == 0, TIMEOUT);
+    }
+    
+    @Test
+    void smallProjectIsPurgedWithinTheDeletingTransaction() {
+        UUID projectId = createProject();
+        createTask(projectId, "PENDING", 1, null);
+        createTask(projectId, "COMPLETED", 1, null);
+        
+        assertThat(projectService.deleteProject(projectId)).isTrue();
+        
+        assertThat(countTasks(projectId)).isZero();
+        assertThat(projectRepository.existsById(projectId)).isFalse();
+    }
+    
+    @Test
+    void sweepFinishesPurgesOfDeletedProjects() throws InterruptedException {
+        UUID projectId = createProject();
+        for (int i = 0; i < 12; i++) {
+            createTask(projectId, "PENDING", 3, null);
+        }
+        // A delete whose purge never ran, as after a crash
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            projectRepository.deleteProjectRow(projectId);
+            eventPublisher.publishEvent(ProjectChangedEvent.deleted(projectId));
+        });
+        assertThat(taskDeleter.findOrphanedProjectIds()).contains(projectId);
+        
+        projectTaskPurger.sweepOrphans();
+        
+        awaitTrue(() -> countTasks(projectId) == 0, TIMEOUT);
+        assertThat(taskDeleter.findOrphanedProjectIds()).doesNotContain(projectId);
+    }
+    
+    @Test
+    void sweepLeavesTasksOfProjectsNeverLoggedAsDeleted() {
+        UUID unknownProjectId = Uuids.timeOrdered();
+        Task task = new Task();
+        task.setId(Uuids.timeOrdered());
+        task.setProjectId(unknownProjectId);
+        task.setName("Written around the API");
+        task.setPriority(1);
+        task.setAssignee("test@example.com");
+        task.setStatus("PENDING");
+        task.setCreatedAt(LocalDateTime.now());
+        task.setUpdatedAt(LocalDateTime.now());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> taskBulkInserter.insert(List.of(task)));
+        
+        assertThat(taskDeleter.findOrphanedProjectIds()).doesNotContain(unknownProjectId);
+    }
+    
+    @Test
+    void tasksCannotBeCreatedInOrMovedToAMissingProject() {
+        UUID missingProjectId = Uuids.timeOrdered();
+        assertThatThrownBy(() -> createTask(missingProjectId, "PENDING", 1, null))
+                .isInstanceOf(UnknownProjectException.class);
+        
+        Task task = createTask(createProject(), "PENDING", 1, null);
+        UpdateTaskRequest move = new UpdateTaskRequest();
+        move.setProjectId(missingProjectId);
+        assertThatThrownBy(() -> taskService.updateTask(task.getId(), move))
+                .isInstanceOf(UnknownProjectException.class);
+    }
+}
@@ -0,0 +1,105 @@
+package com.taskflow.service;
+
+import com.taskflow.IntegrationTest;
+import com.taskflow.model.Task;
+import com.taskflow.repository.TaskField;
+import com.taskflow.repository.TaskFilter;
+import com.taskflow.repository.TaskSortField;
+import com.taskflow.repository.TaskView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/** Unpaged listings served by the filter index must list what SQL would, in the same order. */
+@TestPropertySource(properties = "taskflow.filter-index.enabled=true")
+class TaskFilterIndexTest extends IntegrationTest {
+    
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    
+    @Autowired
+    private TaskFilterIndex taskFilterIndex;
+    
+    @BeforeEach
+    void awaitIndex() throws InterruptedException {
+        awaitTrue(taskFilterIndex::isReady, TIMEOUT);
+    }
+    
+    @Test
+    void unpagedListingFollowsTheSqlOrderForEverySort() {
+        UUID projectId = createProject();
+        createTask(projectId, "PENDING", 3, "2026-11-02T00:00:00");
+        createTask(projectId, "IN_PROGRESS", 1, null);
+        createTask(projectId, "PENDING", 1, "2026-11-01T00:00:00");
+        createTask(projectId, "COMPLETED", 2, "2026-11-01T00:00:00");
+        createTask(projectId, "IN_PROGRESS", 3, "2026-11-01T00:00:00");
+        createTask(projectId, "PENDING", 2, null);
+        List<String> open = List.of("PENDING", "IN_PROGRESS");
+        TaskFilter filter = TaskFilter.anyOf(projectId, open, null, null, null);
+        
+        for (TaskSortField sortField : List.of(TaskSortField.DUE_DATE, TaskSortField.PRIORITY)) {
+            for (boolean descending : List.of(false, true)) {
+                assertThat(taskFilterIndex.findAll(filter, sortField, descending)).isPresent();
+                List<UUID> sql = taskRepository.findTasks(filter, sortField, descending).stream().map(Task::getId).toList();
+                
+                List<?> listed = taskService.getTasks(projectId, open, null, null, null, null,
+                    sortField.getProperty(), descending ? "desc" : "asc", null).getTasks();
+                
+                assertThat(sql).hasSize(5);
+                assertThat(listed).extracting(task -> ((Task) task).getId()).containsExactlyElementsOf(sql);
+            }
+        }
+    }
+    
+    @Test
+    void unpagedListingProjectsTheRequestedFields() {
+        UUID projectId = createProject();
+        createTask(projectId, "PENDING", 2, "2026-11-03T00:00:00");
+        createTask(projectId, "PENDING", 1, null);
+        createTask(projectId, "IN_PROGRESS", 1, "2026-11-01T00:00:00");
+        List<UUID> sql = taskRepository.findTasks(new TaskFilter(projectId, null, null, null, null), TaskSortField.DUE_DATE, false)
+                .stream().map(Task::getId).toList();
+        
+        List<?> listed = taskService.getTasks(projectId, null, null, null, null, null, "dueDate", "asc", Set.of(TaskField.NAME)).getTasks();
+        
+        assertThat(listed).allSatisfy(view -> assertThat(view).isInstanceOf(TaskView.class));
+        assertThat(listed).extracting(view -> ((TaskView) view).getId()).containsExactlyElementsOf(sql);
+        assertThat(listed).extracting(view -> ((TaskView) view).getStatus()).containsOnlyNulls();
+    }
+    
+    @Test
+    void valuesOfOneParameterAreAlternatives() throws Exception {
+        UUID projectId = createProject();
+        createTask(projectId, "PENDING", 1, null);
+        createTask(projectId, "IN_PROGRESS", 2, null);
+        createTask(projectId, "IN_PROGRESS", 3, null);
+        createTask(projectId, "COMPLETED", 1, null);
+        
+        mockMvc.perform(get("/api/tasks")
+                        .param("projectId", projectId.toString())
+                        .param("status", "PENDING,IN_PROGRESS")
+                        .param("priority", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2));
+        
+        mockMvc.perform(get("/api/tasks")
+                        .param("projectId", projectId.toString())
+                        .param("status", "PENDING,IN_PROGRESS")
+                        .param("priority", "1", "2")
+                        .param("limit", "10")
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.tasks.length()").value(2));
+    }
+}
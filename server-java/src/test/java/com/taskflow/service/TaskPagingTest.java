@@ -0,0 +1,139 @@
+package com.taskflow.service;
+
+import com.taskflow.IntegrationTest;
+import com.taskflow.dto.TasksResponse;
+import com.taskflow.dto.UpdateTaskRequest;
+import com.taskflow.model.Task;
+import com.taskflow.repository.TaskField;
+import com.taskflow.repository.TaskFilter;
+import com.taskflow.repository.TaskSortField;
+import com.taskflow.repository.TaskView;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Following next cursors page by page must visit every task exactly once, in the order of the
+ * unpaged SQL listing. Ties on the sort key and tasks without a due date are where keyset paging
+ * goes wrong, so the fixtures have both. {@link FilterIndexTaskPagingTest} runs the same tests with
+ * the pages chosen by the filter index.
+ */
+class TaskPagingTest extends IntegrationTest {
+    
+    private static final int PAGE_SIZE = 2;
+    
+    @Test
+    void cursorsWalkEverySortInBothDirections() {
+        UUID projectId = createFixture();
+        for (TaskSortField sortField : List.of(TaskSortField.DUE_DATE, TaskSortField.PRIORITY)) {
+            for (boolean descending : List.of(false, true)) {
+                List<UUID> expected = sqlOrder(projectId, sortField, descending);
+                
+                List<UUID> paged = walk(projectId, sortField, descending, null, task -> ((Task) task).getId());
+                
+                assertThat(paged).as("%s %s", sortField, descending ? "desc" : "asc").containsExactlyElementsOf(expected);
+            }
+        }
+    }
+    
+    @Test
+    void cursorsWalkNameOrderThroughDuplicateNames() {
+        UUID projectId = createFixture();
+        List<String> names = List.of("Beta", "Alpha", "Beta", "Alpha", "Gamma", "Beta", "Alpha");
+        List<UUID> ids = sqlOrder(projectId, TaskSortField.PRIORITY, false);
+        for (int i = 0; i < ids.size(); i++) {
+            UpdateTaskRequest request = new UpdateTaskRequest();
+            request.setName(names.get(i));
+            taskService.updateTask(ids.get(i), request);
+        }
+        for (boolean descending : List.of(false, true)) {
+            List<UUID> expected = sqlOrder(projectId, TaskSortField.NAME, descending);
+            
+            List<UUID> paged = walk(projectId, TaskSortField.NAME, descending, null, task -> ((Task) task).getId());
+            
+            assertThat(paged).as(descending ? "desc" : "asc").containsExactlyElementsOf(expected);
+        }
+    }
+    
+    @Test
+    void cursorsWalkRunsOfTasksWithoutDueDate() {
+        UUID projectId = createProject();
+        createTask(projectId, "PENDING", 1, null);
+        createTask(projectId, "PENDING", 2, "2026-11-02T00:00:00");
+        createTask(projectId, "IN_PROGRESS", 1, null);
+        createTask(projectId, "PENDING", 3, null);
+        createTask(projectId, "COMPLETED", 1, "2026-11-01T00:00:00");
+        createTask(projectId, "PENDING", 2, null);
+        createTask(projectId, "PENDING", 1, null);
+        for (boolean descending : List.of(false, true)) {
+            List<UUID> expected = sqlOrder(projectId, TaskSortField.DUE_DATE, descending);
+            
+            // Pages start after a null due date, and descending walks cross from null to dated tasks mid-page
+            List<UUID> paged = walk(projectId, TaskSortField.DUE_DATE, descending, null, task -> ((Task) task).getId());
+            
+            assertThat(paged).as(descending ? "desc" : "asc").containsExactlyElementsOf(expected);
+        }
+    }
+    
+    @Test
+    void cursorsWalkProjectedPages() {
+        UUID projectId = createFixture();
+        List<UUID> expected = sqlOrder(projectId, TaskSortField.DUE_DATE, true);
+        
+        List<UUID> paged = walk(projectId, TaskSortField.DUE_DATE, true, Set.of(TaskField.NAME), view -> ((TaskView) view).getId());
+        
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+    
+    @Test
+    void lastPageHasNoCursorAndTotalCountsEveryPage() {
+        UUID projectId = createFixture();
+        
+        TasksResponse first = taskService.getTaskPage(projectId, null, null, null, null, null, "dueDate", "asc", 5, null, true, null);
+        TasksResponse last = taskService.getTaskPage(projectId, null, null, null, null, null, "dueDate", "asc", 5, first.getNextCursor(), true, null);
+        
+        assertThat(first.getTotal()).isEqualTo(7);
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(last.getTasks()).hasSize(2);
+        assertThat(last.getNextCursor()).isNull();
+    }
+    
+    // Seven tasks: three share a due date, two have none, priorities repeat
+    private UUID createFixture() {
+        UUID projectId = createProject();
+        createTask(projectId, "PENDING", 2, "2026-11-02T00:00:00");
+        createTask(projectId, "IN_PROGRESS", 1, null);
+        createTask(projectId, "PENDING", 3, "2026-11-01T00:00:00");
+        createTask(projectId, "COMPLETED", 2, "2026-11-01T00:00:00");
+        createTask(projectId, "PENDING", 1, "2026-11-01T00:00:00");
+        createTask(projectId, "PENDING", 2, null);
+        createTask(projectId, "IN_PROGRESS", 5, "2026-12-01T00:00:00");
+        return projectId;
+    }
+    
+    private List<UUID> sqlOrder(UUID projectId, TaskSortField sortField, boolean descending) {
+        return taskRepository.findTasks(new TaskFilter(projectId, null, null, null, null), sortField, descending).stream()
+                .map(Task::getId)
+                .toList();
+    }
+    
+    private List<UUID> walk(UUID projectId, TaskSortField sortField, boolean descending, Set<TaskField> fields, Function<Object, UUID> id) {
+        List<UUID> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            TasksResponse page = taskService.getTaskPage(projectId, null, null, null, null, null,
+                sortField.getProperty(), descending ? "desc" : "asc", PAGE_SIZE, cursor, false, fields);
+            assertThat(page.getTasks()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            page.getTasks().forEach(task -> ids.add(id.apply(task)));
+            cursor = page.getNextCursor();
+        // A cursor that does not advance would otherwise loop forever
+        } while (cursor != null && ids.size() <= 7);
+        return ids;
+    }
+}
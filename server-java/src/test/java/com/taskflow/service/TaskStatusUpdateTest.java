@@ -0,0 +1,94 @@
+package com.taskflow.service;
+
+import com.taskflow.IntegrationTest;
+import com.taskflow.dto.UpdateTaskRequest;
+import com.taskflow.model.Task;
+import com.taskflow.repository.TaskStatusUpdater;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Status changes through {@link TaskService}. The updater is a spy so a test can make its
+ * conditional UPDATE miss, as it does when another write lands first.
+ */
+class TaskStatusUpdateTest extends IntegrationTest {
+    
+    @SpyBean
+    private TaskStatusUpdater taskStatusUpdater;
+    
+    @Test
+    void retriesWhenAConcurrentWriteWinsTheRace() {
+        Task task = createTask(createProject(), "PENDING", 1, null);
+        doReturn(Optional.empty()).doCallRealMethod().when(taskStatusUpdater).transition(any(), any(), any());
+        
+        Task updated = taskService.updateTaskStatus(task.getId(), "IN_PROGRESS", null).orElseThrow();
+        
+        assertThat(updated.getStatus()).isEqualTo("IN_PROGRESS");
+        verify(taskStatusUpdater, times(2)).transition(any(), any(), any());
+    }
+    
+    @Test
+    void givesUpWithAConflictWhenEveryAttemptLoses() {
+        Task task = createTask(createProject(), "PENDING", 1, null);
+        doReturn(Optional.empty()).when(taskStatusUpdater).transition(any(), any(), any());
+        
+        assertThatThrownBy(() -> taskService.updateTaskStatus(task.getId(), "IN_PROGRESS", null))
+                .isInstanceOfSatisfying(TaskStatusConflictException.class, e ->
+                    assertThat(e.getReason()).isEqualTo(TaskStatusConflictException.Reason.VERSION_MISMATCH));
+        verify(taskStatusUpdater, times(3)).transition(any(), any(), any());
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getStatus()).isEqualTo("PENDING");
+    }
+    
+    @Test
+    void staleExpectedVersionIsAConflictWithoutRetrying() {
+        Task task = createTask(createProject(), "PENDING", 1, null);
+        taskService.updateTaskStatus(task.getId(), "IN_PROGRESS", task.getVersion());
+        
+        assertThatThrownBy(() -> taskService.updateTaskStatus(task.getId(), "COMPLETED", task.getVersion()))
+                .isInstanceOfSatisfying(TaskStatusConflictException.class, e -> {
+                    assertThat(e.getReason()).isEqualTo(TaskStatusConflictException.Reason.VERSION_MISMATCH);
+                    assertThat(e.getCurrent().getStatus()).isEqualTo("IN_PROGRESS");
+                    assertThat(e.getCurrent().getVersion()).isEqualTo(task.getVersion() + 1);
+                });
+        verify(taskStatusUpdater, times(2)).transition(any(), any(), any());
+    }
+    
+    @Test
+    void alreadyHavingTheStatusIsANoOp() {
+        Task task = createTask(createProject(), "COMPLETED", 1, null);
+        
+        Task unchanged = taskService.updateTaskStatus(task.getId(), "COMPLETED", null).orElseThrow();
+        
+        assertThat(unchanged.getVersion()).isEqualTo(task.getVersion());
+    }
+    
+    @Test
+    void fullUpdateChecksTheExpectedVersion() {
+        Task task = createTask(createProject(), "PENDING", 1, null);
+        UpdateTaskRequest rename = new UpdateTaskRequest();
+        rename.setName("Renamed");
+        rename.setVersion(task.getVersion());
+        Task renamed = taskService.updateTask(task.getId(), rename).orElseThrow();
+        assertThat(renamed.getVersion()).isEqualTo(task.getVersion() + 1);
+        
+        UpdateTaskRequest stale = new UpdateTaskRequest();
+        stale.setStatus("COMPLETED");
+        stale.setVersion(task.getVersion());
+        assertThatThrownBy(() -> taskService.updateTask(task.getId(), stale))
+                .isInstanceOfSatisfying(TaskStatusConflictException.class, e ->
+                    assertThat(e.getReason()).isEqualTo(TaskStatusConflictException.Reason.VERSION_MISMATCH));
+        
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(stored.getName()).isEqualTo("Renamed");
+        assertThat(stored.getStatus()).isEqualTo("PENDING");
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskflow.service;
+
+import com.taskflow.IntegrationTest;
+import com.taskflow.model.ChangeLogEntry;
+import com.taskflow.model.Project;
+import com.taskflow.repository.ChangeLogRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A remote write is made straight in the database with the change_log row and version bump the
+ * writing node would commit; only this node's polls can tell its caches and ETags about it.
+ */
+class VersionTrackerTest extends IntegrationTest {
+    
+    @Autowired
+    private VersionTracker versionTracker;
+    
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void localWriteMovesTheVersionOnlyWithAFreshBody() {
+        UUID projectId = createProject();
+        assertThat(projectService.getProjectById(projectId)).isPresent();
+        long before = versionTracker.getVersion(projectId);
+        
+        createTask(projectId, "PENDING", 1, null);
+        
+        assertThat(versionTracker.getVersion(projectId)).isGreaterThan(before);
+        assertThat(projectService.getProjectStatsBulk(List.of(projectId)).get(projectId).getTotalTasks()).isEqualTo(1);
+    }
+    
+    @Test
+    void remoteVersionIsPublishedTogetherWithTheEvictionItCovers() {
+        UUID projectId = createProject();
+        assertThat(projectService.getProjectById(projectId)).isPresent();
+        long before = versionTracker.getVersion(projectId);
+        
+        jdbcTemplate.update("UPDATE projects SET name = 'Renamed elsewhere' WHERE id = ?", projectId);
+        changeLogRepository.save(new ChangeLogEntry(null, ChangeLogEntry.PROJECT, "UPDATED", projectId, projectId, null, null, LocalDateTime.now()));
+        jdbcTemplate.update("UPDATE project_versions SET version = version + 1, updated_at = ? WHERE project_id = ?", LocalDateTime.now(), projectId);
+        
+        // Only the version poll runs; it must bring the cache along rather than wait for the cache's own poll
+        versionTracker.poll();
+        
+        assertThat(versionTracker.getVersion(projectId)).isEqualTo(before + 1);
+        assertThat(projectService.getProjectById(projectId)).get().extracting(Project::getName).isEqualTo("Renamed elsewhere");
+    }
+}
@@ -1,12 +1,36 @@
-import { defineConfig } from "vite";
+import { defineConfig, type Plugin } from "vite";
 import react from "@vitejs/plugin-react";
+import fs from "fs";
 import path from "path";
+import { brotliCompressSync, constants as zlibConstants } from "zlib";
 import runtimeErrorOverlay from "@replit/vite-plugin-runtime-error-modal";
 
+// Writes a Brotli copy next to each text file of the build. The Spring Boot server loads them
+// with the rest of the bundle (it gzips on its own, but the JDK has no Brotli encoder).
+function brotliAssets(): Plugin {
+  return {
+    name: "taskflow-brotli-assets",
+    apply: "build",
+    writeBundle(options, bundle) {
+      for (const fileName of Object.keys(bundle)) {
+        if (!/\.(js|mjs|css|html|svg|json|txt|map)$/.test(fileName)) {
+          continue;
+        }
+        const file = path.join(options.dir!, fileName);
+        const compressed = brotliCompressSync(fs.readFileSync(file), {
+          params: { [zlibConstants.BROTLI_PARAM_QUALITY]: zlibConstants.BROTLI_MAX_QUALITY },
+        });
+        fs.writeFileSync(`${file}.br`, compressed);
+      }
+    },
+  };
+}
+
 export default defineConfig({
   plugins: [
     react(),
     runtimeErrorOverlay(),
+    brotliAssets(),
     ...(process.env.NODE_ENV !== "production" &&
     process.env.REPL_ID !== undefined
       ? [